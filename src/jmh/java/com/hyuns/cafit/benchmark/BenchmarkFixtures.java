@@ -0,0 +1,74 @@
+package com.hyuns.cafit.benchmark;
+
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.domain.beverage.BeverageCategory;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.domain.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 데이터. 시드를 고정해 실행마다 같은 값을 만든다.
+ */
+final class BenchmarkFixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 23, 15, 0);
+
+    private static final long SEED = 42L;
+    private static final BeverageCategory[] CATEGORIES = {
+            BeverageCategory.AMERICANO, BeverageCategory.LATTE, BeverageCategory.ESPRESSO, BeverageCategory.COLD_BREW
+    };
+
+    static User user() {
+        return new User("bench@example.com", "password", "벤치마크");
+    }
+
+    /**
+     * NOW 기준 최근 24시간 안에 흩어진 섭취 기록, consumedAt 오름차순.
+     */
+    static List<CaffeineIntake> intakes(User user, int size) {
+        Random random = new Random(SEED);
+        List<CaffeineIntake> intakes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BeverageCategory category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            intakes.add(CaffeineIntake.restore(
+                    (long) i + 1,
+                    user,
+                    category.name(),
+                    "벤치마크",
+                    category,
+                    355,
+                    50 + random.nextInt(200),
+                    NOW.minusMinutes(random.nextInt(24 * 60)),
+                    BeverageType.PRESET,
+                    1L,
+                    null
+            ));
+        }
+        intakes.sort(Comparator.comparing(CaffeineIntake::getConsumedAt));
+        return intakes;
+    }
+
+    static List<IntakeHistoryRow> historyRows(List<CaffeineIntake> intakes) {
+        return intakes.stream()
+                .map(intake -> new IntakeHistoryRow(
+                        intake.getId(),
+                        intake.getBeverageName(),
+                        intake.getBrandName(),
+                        intake.getCategory(),
+                        intake.getVolumeMl(),
+                        intake.getCaffeineMg(),
+                        intake.getConsumedAt(),
+                        intake.getSourceType(),
+                        intake.getSourceBeverageId()
+                ))
+                .toList();
+    }
+
+    private BenchmarkFixtures() {}
+}
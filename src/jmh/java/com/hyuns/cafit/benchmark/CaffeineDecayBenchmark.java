@@ -0,0 +1,71 @@
+package com.hyuns.cafit.benchmark;
+
+import com.hyuns.cafit.application.caffeine.CaffeineDecayCalculator;
+import com.hyuns.cafit.application.caffeine.CaffeineLedgerSnapshot;
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 섭취 기록 목록(엔티티)과 원장 배열로 계산하는 두 경로를 같은 입력 크기에서 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaffeineDecayBenchmark {
+
+    @Param({"1", "10", "100", "10000"})
+    public int size;
+
+    private final CaffeineDecayCalculator calculator = new CaffeineDecayCalculator();
+    private final LocalDateTime target = BenchmarkFixtures.NOW.plusHours(8);
+    private final double halfLife = 5.0;
+
+    private List<CaffeineIntake> intakes;
+    private CaffeineLedgerSnapshot snapshot;
+    private double hoursElapsed;
+
+    @Setup
+    public void setUp() {
+        intakes = BenchmarkFixtures.intakes(BenchmarkFixtures.user(), size);
+        long[] keys = new long[size];
+        double[] caffeineMg = new double[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = CaffeineLedgerSnapshot.keyOf(intakes.get(i).getConsumedAt());
+            caffeineMg[i] = intakes.get(i).getCaffeineMg();
+        }
+        snapshot = new CaffeineLedgerSnapshot(BenchmarkFixtures.NOW, keys, caffeineMg, 0, size, 0);
+        hoursElapsed = 3.5;
+    }
+
+    @Benchmark
+    public double caffeineLevelAtIntakes() {
+        return calculator.caffeineLevelAt(intakes, target, halfLife);
+    }
+
+    @Benchmark
+    public double caffeineLevelAtSnapshot() {
+        return snapshot.levelAt(calculator, target, halfLife);
+    }
+
+    @Benchmark
+    public double calculateRemaining() {
+        return calculator.calculateRemaining(150.0, hoursElapsed, halfLife);
+    }
+}
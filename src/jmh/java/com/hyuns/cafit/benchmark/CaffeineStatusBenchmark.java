@@ -0,0 +1,42 @@
+package com.hyuns.cafit.benchmark;
+
+import com.hyuns.cafit.application.caffeine.dto.DrinkRecommendation;
+import com.hyuns.cafit.global.util.NumberUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태 응답마다 여러 번 호출되는 작은 계산들.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaffeineStatusBenchmark {
+
+    private double todayTotalMg = 320.0;
+    private double dailyLimitMg = 400.0;
+    private double predictedAtBedtimeMg = 63.27;
+    private double targetSleepCaffeineMg = 50.0;
+
+    @Benchmark
+    public DrinkRecommendation determineRecommendation() {
+        return DrinkRecommendation.determine(todayTotalMg, dailyLimitMg, predictedAtBedtimeMg, targetSleepCaffeineMg);
+    }
+
+    @Benchmark
+    public double round() {
+        return NumberUtils.round(predictedAtBedtimeMg);
+    }
+}
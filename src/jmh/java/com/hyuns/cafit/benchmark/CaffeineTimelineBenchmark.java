@@ -0,0 +1,54 @@
+package com.hyuns.cafit.benchmark;
+
+import com.hyuns.cafit.application.caffeine.CaffeineDecayCalculator;
+import com.hyuns.cafit.application.caffeine.CaffeineIntakeWindow;
+import com.hyuns.cafit.application.caffeine.CaffeineLedgerSnapshot;
+import com.hyuns.cafit.application.statistics.CaffeineTimelineBuilder;
+import com.hyuns.cafit.application.statistics.dto.CaffeineTimelineResponse;
+import com.hyuns.cafit.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 24시간 타임라인 생성. 대시보드처럼 이미 조회한 구간으로 스냅샷을 만들므로 DB 나 원장을 거치지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaffeineTimelineBenchmark {
+
+    private static final int TIMELINE_HOURS = 24;
+
+    @Param({"1", "10", "100", "10000"})
+    public int size;
+
+    private CaffeineTimelineBuilder timelineBuilder;
+    private User user;
+    private CaffeineIntakeWindow window;
+
+    @Setup
+    public void setUp() {
+        timelineBuilder = new CaffeineTimelineBuilder(new CaffeineDecayCalculator());
+        user = BenchmarkFixtures.user();
+        window = CaffeineIntakeWindow.of(BenchmarkFixtures.intakes(user, size), BenchmarkFixtures.NOW);
+    }
+
+    @Benchmark
+    public CaffeineTimelineResponse buildTimeline() {
+        return timelineBuilder.build(user, CaffeineLedgerSnapshot.of(window), TIMELINE_HOURS);
+    }
+}
@@ -0,0 +1,68 @@
+package com.hyuns.cafit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryResponse;
+import com.hyuns.cafit.application.statistics.dto.CaffeineTimelineResponse;
+import com.hyuns.cafit.application.statistics.dto.TimelineDataPoint;
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 응답 DTO 의 JSON 직렬화. 애플리케이션과 같은 기본 설정(Jackson2ObjectMapperBuilder)의 ObjectMapper 를 쓴다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "10", "100", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private IntakeHistoryResponse history;
+    private CaffeineTimelineResponse timeline;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<CaffeineIntake> intakes = BenchmarkFixtures.intakes(BenchmarkFixtures.user(), size);
+        history = new IntakeHistoryResponse(BenchmarkFixtures.historyRows(intakes), null, false);
+        timeline = new CaffeineTimelineResponse(
+                IntStream.range(0, size)
+                        .mapToObj(i -> new TimelineDataPoint(BenchmarkFixtures.NOW.plusMinutes(i), 100.0 - i * 0.01))
+                        .toList(),
+                BenchmarkFixtures.NOW,
+                BenchmarkFixtures.NOW.plusHours(8),
+                50.0
+        );
+    }
+
+    @Benchmark
+    public byte[] intakeHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(history);
+    }
+
+    @Benchmark
+    public byte[] timeline() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(timeline);
+    }
+}
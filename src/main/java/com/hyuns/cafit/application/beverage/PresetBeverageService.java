@@ -8,6 +8,7 @@ import com.hyuns.cafit.application.beverage.dto.PresetBeverageResponse;
 import com.hyuns.cafit.global.exception.BeverageNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
@@ -33,6 +34,7 @@ public class PresetBeverageService {
                 .toList();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<BeverageCategoryResponse> getAllCategories() {
         return Arrays.stream(BeverageCategory.values())
                 .map(BeverageCategoryResponse::from)
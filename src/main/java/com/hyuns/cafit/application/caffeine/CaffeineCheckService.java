@@ -7,12 +7,11 @@ import com.hyuns.cafit.application.beverage.dto.BeverageInfo;
 import com.hyuns.cafit.application.caffeine.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
@@ -26,26 +25,24 @@ public class CaffeineCheckService {
     private final Clock clock;
     private final CaffeineDecayCalculator decayCalculator;
     private final CaffeineIntakeRepository intakeRepository;
+    private final CaffeineLedger caffeineLedger;
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CurrentCaffeineResponse getCurrentStatus(User user) {
-        LocalDateTime now = LocalDateTime.now(clock);
-        List<CaffeineIntake> intakes = getRecentIntakes(user, now);
-        double todayTotalMg = getTodayTotalIntake(user);
-
-        CaffeineStatus status = buildCaffeineStatus(user, intakes, now, todayTotalMg, 0);
-        UserCaffeineSettings settings = UserCaffeineSettings.from(user);
-        DrinkRecommendation recommendation = determineRecommendation(user, status);
+        return buildCurrentStatus(user, caffeineLedger.snapshot(user));
+    }
 
-        return new CurrentCaffeineResponse(status, settings, recommendation);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CurrentCaffeineResponse getCurrentStatus(User user, CaffeineIntakeWindow window) {
+        return buildCurrentStatus(user, CaffeineLedgerSnapshot.of(window));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DrinkCheckResponse checkBeverage(User user, BeverageInfo beverageInfo) {
-        LocalDateTime now = LocalDateTime.now(clock);
-        List<CaffeineIntake> intakes = getRecentIntakes(user, now);
-        double todayTotalMg = getTodayTotalIntake(user);
+        CaffeineLedgerSnapshot snapshot = caffeineLedger.snapshot(user);
 
-        CaffeineStatus before = buildCaffeineStatus(user, intakes, now, todayTotalMg, 0);
-        CaffeineStatus after = buildCaffeineStatus(user, intakes, now, todayTotalMg, beverageInfo.caffeineMg());
+        CaffeineStatus before = buildCaffeineStatus(user, snapshot, 0);
+        CaffeineStatus after = buildCaffeineStatus(user, snapshot, beverageInfo.caffeineMg());
 
         UserCaffeineSettings settings = UserCaffeineSettings.from(user);
         DrinkRecommendation recommendation = determineRecommendation(user, after);
@@ -60,16 +57,56 @@ public class CaffeineCheckService {
         );
     }
 
+    /**
+     * 섭취 기록을 한 번만 조회해 여러 음료의 취침 시 예상 잔량과 추천 등급을 계산한다.
+     * 결과는 caffeineAmounts 와 같은 순서로 반환된다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DrinkSafety> estimateDrinkSafeties(User user, List<Double> caffeineAmounts) {
+        CaffeineLedgerSnapshot snapshot = caffeineLedger.snapshot(user);
+
+        return caffeineAmounts.stream()
+                .map(caffeineMg -> estimateDrinkSafety(user, snapshot, caffeineMg))
+                .toList();
+    }
+
+    /**
+     * 현재 상태, 타임라인, 오늘 섭취 기록이 함께 사용할 수 있는 섭취 구간을 한 번에 조회한다.
+     */
+    public CaffeineIntakeWindow getIntakeWindow(User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<CaffeineIntake> intakes = intakeRepository.findByUserAndConsumedAtBetween(
+                user,
+                CaffeineIntakeWindow.startOf(now),
+                CaffeineIntakeWindow.endOf(now)
+        );
+
+        return CaffeineIntakeWindow.of(intakes, now);
+    }
+
+    private CurrentCaffeineResponse buildCurrentStatus(User user, CaffeineLedgerSnapshot snapshot) {
+        CaffeineStatus status = buildCaffeineStatus(user, snapshot, 0);
+        UserCaffeineSettings settings = UserCaffeineSettings.from(user);
+        DrinkRecommendation recommendation = determineRecommendation(user, status);
+
+        return new CurrentCaffeineResponse(status, settings, recommendation);
+    }
+
+    private DrinkSafety estimateDrinkSafety(User user, CaffeineLedgerSnapshot snapshot, double caffeineMg) {
+        CaffeineStatus after = buildCaffeineStatus(user, snapshot, caffeineMg);
+        return new DrinkSafety(after.predictedAtBedtimeMg(), determineRecommendation(user, after));
+    }
+
     private CaffeineStatus buildCaffeineStatus(
             User user,
-            List<CaffeineIntake> intakes,
-            LocalDateTime now,
-            double todayTotalMg,
+            CaffeineLedgerSnapshot snapshot,
             double additionalCaffeine
     ) {
-        double currentMg = decayCalculator.caffeineLevelAt(intakes, now, user.getCaffeineHalfLife()) + additionalCaffeine;
-        double predictedAtBedtimeMg = calculatePredictedAtBedtime(user, intakes, now, additionalCaffeine);
-        double totalMg = todayTotalMg + additionalCaffeine;
+        LocalDateTime now = snapshot.now();
+
+        double currentMg = snapshot.levelAt(decayCalculator, now, user.getCaffeineHalfLife()) + additionalCaffeine;
+        double predictedAtBedtimeMg = calculatePredictedAtBedtime(user, snapshot, now, additionalCaffeine);
+        double totalMg = snapshot.todayTotalMg() + additionalCaffeine;
         double hoursUntilBedtime = calculateHoursUntilBedtime(user, now);
 
         return new CaffeineStatus(
@@ -89,21 +126,16 @@ public class CaffeineCheckService {
         );
     }
 
-    private List<CaffeineIntake> getRecentIntakes(User user, LocalDateTime now) {
-        LocalDateTime startTime = now.minusHours(24);
-        return intakeRepository.findByUserAndConsumedAtBetween(user, startTime, now);
-    }
-
     private double calculatePredictedAtBedtime(
             User user,
-            List<CaffeineIntake> intakes,
+            CaffeineLedgerSnapshot snapshot,
             LocalDateTime now,
             double additionalCaffeine
     ) {
         LocalDateTime bedtime = calculateBedtime(user, now);
         double hoursUntilBed = ChronoUnit.MINUTES.between(now, bedtime) / 60.0;
 
-        double currentAtBedtime = decayCalculator.caffeineLevelAt(intakes, bedtime, user.getCaffeineHalfLife());
+        double currentAtBedtime = snapshot.levelAt(decayCalculator, bedtime, user.getCaffeineHalfLife());
         double additionalAtBedtime = decayCalculator.calculateRemaining(additionalCaffeine, hoursUntilBed, user.getCaffeineHalfLife());
 
         return currentAtBedtime + additionalAtBedtime;
@@ -123,17 +155,4 @@ public class CaffeineCheckService {
         LocalDateTime bedtime = calculateBedtime(user, now);
         return ChronoUnit.MINUTES.between(now, bedtime) / 60.0;
     }
-
-    private double getTodayTotalIntake(User user) {
-        LocalDate today = LocalDate.now(clock);
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
-
-        List<CaffeineIntake> todayIntakes = intakeRepository
-                .findByUserAndConsumedAtBetween(user, startOfDay, endOfDay);
-
-        return todayIntakes.stream()
-                .mapToDouble(CaffeineIntake::getCaffeineMg)
-                .sum();
-    }
 }
@@ -1,6 +1,9 @@
 package com.hyuns.cafit.application.caffeine;
 
 import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.global.jfr.CaffeineDecayEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -9,6 +12,14 @@ import java.util.List;
 
 @Component
 public class CaffeineDecayCalculator {
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    // 전역 레지스트리에 붙여 두면 스프링 밖(단위 테스트, 벤치마크)에서는 아무것도 기록하지 않는다
+    private static final DistributionSummary INTAKES_EXAMINED = DistributionSummary
+            .builder("cafit.caffeine.decay.intakes")
+            .description("카페인 잔량 계산 한 번에 살펴본 섭취 기록 수")
+            .register(Metrics.globalRegistry);
+
     public double calculateRemaining(double initialMg, double hoursElapsed, double halfLife) {
         if (hoursElapsed <= 0) {
             return initialMg;
@@ -17,6 +28,8 @@ public class CaffeineDecayCalculator {
     }
 
     public double caffeineLevelAt(List<CaffeineIntake> intakes, LocalDateTime targetTime, double halfLife) {
+        CaffeineDecayEvent event = new CaffeineDecayEvent();
+        event.begin();
         double total = 0;
 
         for (CaffeineIntake intake : intakes) {
@@ -24,6 +37,40 @@ public class CaffeineDecayCalculator {
             total += calculateRemaining(intake.getCaffeineMg(), hoursElapsed, halfLife);
         }
 
+        record(event, intakes.size());
+        return total;
+    }
+
+    /**
+     * 원장 스냅샷의 [from, to) 구간 합계. 경과 시간은 위와 같이 분 단위로 내린다.
+     */
+    public double caffeineLevelAt(
+            long[] consumedAtKeys,
+            double[] caffeineMg,
+            int from,
+            int to,
+            LocalDateTime targetTime,
+            double halfLife
+    ) {
+        CaffeineDecayEvent event = new CaffeineDecayEvent();
+        event.begin();
+        long targetKey = CaffeineLedgerSnapshot.keyOf(targetTime);
+        double total = 0;
+
+        for (int i = from; i < to; i++) {
+            double hoursElapsed = ((targetKey - consumedAtKeys[i]) / NANOS_PER_MINUTE) / 60.0;
+            total += calculateRemaining(caffeineMg[i], hoursElapsed, halfLife);
+        }
+
+        record(event, to - from);
         return total;
     }
+
+    private void record(CaffeineDecayEvent event, int intakeCount) {
+        INTAKES_EXAMINED.record(intakeCount);
+        if (event.shouldCommit()) {
+            event.intakeCount = intakeCount;
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.hyuns.cafit.application.caffeine;
+
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 최근 24시간 섭취 기록과 오늘 섭취 기록을 한 번의 조회 결과로부터 나눈다.
+ * 조회 구간은 [now - 24h, 오늘 23:59:59] 이며, 두 구간의 합집합이다.
+ */
+public record CaffeineIntakeWindow(
+        LocalDateTime now,
+        List<CaffeineIntake> recentIntakes,
+        List<CaffeineIntake> todayIntakes
+) {
+    private static final int RECENT_HOURS = 24;
+
+    public static LocalDateTime startOf(LocalDateTime now) {
+        return now.minusHours(RECENT_HOURS);
+    }
+
+    public static LocalDateTime endOf(LocalDateTime now) {
+        return now.toLocalDate().atTime(LocalTime.MAX);
+    }
+
+    public static CaffeineIntakeWindow of(List<CaffeineIntake> intakes, LocalDateTime now) {
+        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
+
+        List<CaffeineIntake> recentIntakes = intakes.stream()
+                .filter(intake -> !intake.getConsumedAt().isAfter(now))
+                .toList();
+
+        List<CaffeineIntake> todayIntakes = intakes.stream()
+                .filter(intake -> !intake.getConsumedAt().isBefore(startOfDay))
+                .toList();
+
+        return new CaffeineIntakeWindow(now, recentIntakes, todayIntakes);
+    }
+
+    public double todayTotalMg() {
+        return todayIntakes.stream()
+                .mapToDouble(CaffeineIntake::getCaffeineMg)
+                .sum();
+    }
+}
@@ -0,0 +1,377 @@
+package com.hyuns.cafit.application.caffeine;
+
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.domain.intake.event.IntakeDeleted;
+import com.hyuns.cafit.domain.intake.event.IntakeRecorded;
+import com.hyuns.cafit.domain.intake.event.IntakesImported;
+import com.hyuns.cafit.domain.intake.repository.CaffeineIntakeRepository;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.global.datasource.PrimaryPinning;
+import com.hyuns.cafit.global.jfr.LedgerCacheEvent;
+import com.hyuns.cafit.global.outbox.LocalCacheInvalidator;
+import com.hyuns.cafit.global.tracing.TracingInterceptor;
+import io.opentelemetry.api.trace.Span;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활성 사용자의 최근 섭취 기록과 오늘 합계를 들고 있는 메모리 읽기 모델. 커밋 이후 이벤트로 갱신한다.
+ * 삭제는 id 로 찾는다. (DB 가 consumedAt 정밀도를 줄이므로 시각 키로는 찾을 수 없다)
+ */
+@Component
+public class CaffeineLedger implements LocalCacheInvalidator {
+
+    private final Clock clock;
+    private final CaffeineIntakeRepository intakeRepository;
+    private final int retentionHours;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, UserLedger> ledgers;
+
+    public CaffeineLedger(
+            Clock clock,
+            CaffeineIntakeRepository intakeRepository,
+            @Value("${cafit.caffeine.ledger.retention-hours:48}") int retentionHours,
+            @Value("${cafit.caffeine.ledger.max-users:100000}") int maxUsers
+    ) {
+        this.clock = clock;
+        this.intakeRepository = intakeRepository;
+        this.retentionHours = retentionHours;
+        this.ledgers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserLedger> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public CaffeineLedgerSnapshot snapshot(User user) {
+        LedgerCacheEvent event = new LedgerCacheEvent();
+        event.begin();
+        LocalDateTime now = LocalDateTime.now(clock);
+        UserLedger ledger = ledgerOf(user.getId());
+
+        CaffeineLedgerSnapshot snapshot = ledger.snapshot(now, retentionHours);
+        if (snapshot != null) {
+            commit(event, user.getId(), true);
+            return traced(snapshot);
+        }
+
+        long version = ledger.version();
+        List<CaffeineIntake> intakes = loadFromPrimary(user, now);
+        ledger.load(version, intakes, now.toLocalDate());
+        commit(event, user.getId(), false);
+        return traced(UserLedger.of(intakes, now.toLocalDate()).snapshot(now, retentionHours));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(IntakeRecorded event) {
+        ledgerIfPresent(event.userId()).ifPresent(ledger -> ledger.record(
+                event.intakeId(), CaffeineLedgerSnapshot.keyOf(event.consumedAt()), event.caffeineMg()
+        ));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(IntakeDeleted event) {
+        ledgerIfPresent(event.userId()).ifPresent(ledger -> ledger.remove(event.intakeId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(IntakesImported event) {
+        evict(event.userId());
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        evict(userId);
+    }
+
+    public void evict(Long userId) {
+        lock.lock();
+        try {
+            ledgers.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            ledgers.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 추적 중이면 호출한 서비스 메서드의 스팬에 잔량 계산에 쓰일 기록 수를 남긴다
+    private CaffeineLedgerSnapshot traced(CaffeineLedgerSnapshot snapshot) {
+        Span.current().setAttribute(TracingInterceptor.INTAKE_COUNT, snapshot.recentTo() - snapshot.recentFrom());
+        return snapshot;
+    }
+
+    // 지연된 replica 에서 읽으면 방금 커밋된 기록이 빠진 채로 캐시되므로 적재는 primary 에서 한다
+    private List<CaffeineIntake> loadFromPrimary(User user, LocalDateTime now) {
+        boolean pinned = PrimaryPinning.isPinned();
+        PrimaryPinning.set(true);
+        try {
+            return intakeRepository.findByUserAndConsumedAtBetween(
+                    user, now.minusHours(retentionHours), CaffeineIntakeWindow.endOf(now)
+            );
+        } finally {
+            if (!pinned) {
+                PrimaryPinning.clear();
+            }
+        }
+    }
+
+    private void commit(LedgerCacheEvent event, Long userId, boolean hit) {
+        if (event.shouldCommit()) {
+            event.userId = userId;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    private UserLedger ledgerOf(Long userId) {
+        lock.lock();
+        try {
+            return ledgers.computeIfAbsent(userId, id -> new UserLedger());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Optional<UserLedger> ledgerIfPresent(Long userId) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(ledgers.get(userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 한 명의 원장. consumedAt 오름차순 배열과 오늘 합계를 가진다.
+     */
+    private static final class UserLedger {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private long version;
+        private boolean loaded;
+        private LocalDate loadedDate;
+        private long[] keys = new long[8];
+        private long[] ids = new long[8];
+        private double[] caffeineMg = new double[8];
+        private int size;
+
+        private LocalDate totalDate;
+        private double todayTotalMg;
+
+        private static UserLedger of(List<CaffeineIntake> intakes, LocalDate loadedDate) {
+            UserLedger ledger = new UserLedger();
+            ledger.load(0, intakes, loadedDate);
+            return ledger;
+        }
+
+        private long version() {
+            lock.lock();
+            try {
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void load(long expectedVersion, List<CaffeineIntake> intakes, LocalDate loadedDate) {
+            lock.lock();
+            try {
+                if (version != expectedVersion) {
+                    return;
+                }
+                size = 0;
+                for (CaffeineIntake intake : intakes) {
+                    insert(intake.getId(), CaffeineLedgerSnapshot.keyOf(intake.getConsumedAt()), intake.getCaffeineMg());
+                }
+                totalDate = null;
+                this.loadedDate = loadedDate;
+                loaded = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void record(Long id, long key, double mg) {
+            lock.lock();
+            try {
+                version++;
+                if (loaded && insert(id, key, mg)) {
+                    adjustTodayTotal(key, mg);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(Long id) {
+            lock.lock();
+            try {
+                version++;
+                if (!loaded) {
+                    return;
+                }
+                int i = indexOf(id);
+                if (i < 0) {
+                    return;
+                }
+                adjustTodayTotal(keys[i], -caffeineMg[i]);
+                System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                System.arraycopy(caffeineMg, i + 1, caffeineMg, i, size - i - 1);
+                size--;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 적재되지 않았거나 적재한 날짜가 지났으면 null. 보관 기간이 지난 앞부분은 여기서 잘라낸다.
+         */
+        private CaffeineLedgerSnapshot snapshot(LocalDateTime now, int retentionHours) {
+            lock.lock();
+            try {
+                LocalDate today = now.toLocalDate();
+                if (!loaded || !today.equals(loadedDate)) {
+                    return null;
+                }
+                trimBefore(CaffeineLedgerSnapshot.keyOf(now.minusHours(retentionHours)));
+
+                if (!today.equals(totalDate)) {
+                    todayTotalMg = sumBetween(
+                            CaffeineLedgerSnapshot.keyOf(today.atStartOfDay()),
+                            CaffeineLedgerSnapshot.keyOf(today.atTime(LocalTime.MAX))
+                    );
+                    totalDate = today;
+                }
+
+                int from = lowerBound(CaffeineLedgerSnapshot.keyOf(CaffeineIntakeWindow.startOf(now)));
+                int to = upperBound(CaffeineLedgerSnapshot.keyOf(now));
+                return new CaffeineLedgerSnapshot(
+                        now,
+                        Arrays.copyOfRange(keys, from, to),
+                        Arrays.copyOfRange(caffeineMg, from, to),
+                        0,
+                        to - from,
+                        todayTotalMg
+                );
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 이미 있는 id 면 담지 않고 false. (커밋 전 행을 적재한 뒤 같은 기록의 이벤트가 오는 경우)
+         */
+        private boolean insert(Long id, long key, double mg) {
+            if (indexOf(id) >= 0) {
+                return false;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+                caffeineMg = Arrays.copyOf(caffeineMg, size * 2);
+            }
+            int position = upperBound(key);
+            System.arraycopy(keys, position, keys, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(caffeineMg, position, caffeineMg, position + 1, size - position);
+            keys[position] = key;
+            ids[position] = id;
+            caffeineMg[position] = mg;
+            size++;
+            return true;
+        }
+
+        // 보관 기간(며칠치)만 담으므로 선형 탐색으로 충분하다
+        private int indexOf(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void adjustTodayTotal(long key, double mg) {
+            if (totalDate == null) {
+                return;
+            }
+            long startOfDay = CaffeineLedgerSnapshot.keyOf(totalDate.atStartOfDay());
+            long endOfDay = CaffeineLedgerSnapshot.keyOf(totalDate.atTime(LocalTime.MAX));
+            if (key >= startOfDay && key <= endOfDay) {
+                todayTotalMg += mg;
+            }
+        }
+
+        private void trimBefore(long key) {
+            int from = lowerBound(key);
+            if (from == 0) {
+                return;
+            }
+            System.arraycopy(keys, from, keys, 0, size - from);
+            System.arraycopy(ids, from, ids, 0, size - from);
+            System.arraycopy(caffeineMg, from, caffeineMg, 0, size - from);
+            size -= from;
+        }
+
+        private double sumBetween(long startKey, long endKey) {
+            double total = 0;
+            for (int i = lowerBound(startKey); i < size && keys[i] <= endKey; i++) {
+                total += caffeineMg[i];
+            }
+            return total;
+        }
+
+        // key 이상인 첫 위치
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // key 보다 큰 첫 위치
+        private int upperBound(long key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
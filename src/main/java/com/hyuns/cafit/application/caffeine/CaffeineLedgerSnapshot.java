@@ -0,0 +1,48 @@
+package com.hyuns.cafit.application.caffeine;
+
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * consumedAtKeys 는 UTC 기준 epoch 나노초(오름차순)이고, [recentFrom, recentTo) 는 최근 24시간 기록이다.
+ */
+public record CaffeineLedgerSnapshot(
+        LocalDateTime now,
+        long[] consumedAtKeys,
+        double[] caffeineMg,
+        int recentFrom,
+        int recentTo,
+        double todayTotalMg
+) {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    public static long keyOf(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    /**
+     * 이미 조회된 섭취 구간을 같은 형태로 바꾼다. (대시보드처럼 구간을 공유하는 경로)
+     */
+    public static CaffeineLedgerSnapshot of(CaffeineIntakeWindow window) {
+        List<CaffeineIntake> intakes = window.recentIntakes().stream()
+                .sorted(Comparator.comparing(CaffeineIntake::getConsumedAt))
+                .toList();
+
+        long[] keys = new long[intakes.size()];
+        double[] caffeineMg = new double[intakes.size()];
+        for (int i = 0; i < intakes.size(); i++) {
+            keys[i] = keyOf(intakes.get(i).getConsumedAt());
+            caffeineMg[i] = intakes.get(i).getCaffeineMg();
+        }
+
+        return new CaffeineLedgerSnapshot(window.now(), keys, caffeineMg, 0, keys.length, window.todayTotalMg());
+    }
+
+    public double levelAt(CaffeineDecayCalculator decayCalculator, LocalDateTime targetTime, double halfLife) {
+        return decayCalculator.caffeineLevelAt(consumedAtKeys, caffeineMg, recentFrom, recentTo, targetTime, halfLife);
+    }
+}
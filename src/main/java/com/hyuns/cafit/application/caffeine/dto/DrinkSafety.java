@@ -0,0 +1,6 @@
+package com.hyuns.cafit.application.caffeine.dto;
+
+public record DrinkSafety(
+        double predictedAtBedtimeMg,
+        DrinkRecommendation recommendation
+) {}
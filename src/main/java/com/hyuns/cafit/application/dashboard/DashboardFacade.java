@@ -0,0 +1,82 @@
+package com.hyuns.cafit.application.dashboard;
+
+import com.hyuns.cafit.application.beverage.CustomBeverageService;
+import com.hyuns.cafit.application.beverage.PresetBeverageService;
+import com.hyuns.cafit.application.beverage.dto.BeverageCategoryResponse;
+import com.hyuns.cafit.application.beverage.dto.CustomBeverageResponse;
+import com.hyuns.cafit.application.caffeine.CaffeineCheckService;
+import com.hyuns.cafit.application.caffeine.CaffeineIntakeWindow;
+import com.hyuns.cafit.application.caffeine.dto.CurrentCaffeineResponse;
+import com.hyuns.cafit.application.dashboard.dto.DashboardResponse;
+import com.hyuns.cafit.application.favorite.FavoriteBeverageService;
+import com.hyuns.cafit.application.favorite.dto.FavoriteBeverageResponse;
+import com.hyuns.cafit.application.intake.CaffeineIntakeService;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.application.statistics.CaffeineStatisticsService;
+import com.hyuns.cafit.application.statistics.dto.CaffeineTimelineResponse;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.global.config.RequestContextExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 조회는 가상 스레드에서 각자의 트랜잭션으로 실행하고, 요청 스레드는 커넥션을 잡지 않도록 트랜잭션을 걸지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardFacade {
+
+    private final CaffeineCheckService caffeineCheckService;
+    private final CaffeineStatisticsService statisticsService;
+    private final CaffeineIntakeService caffeineIntakeService;
+    private final FavoriteBeverageService favoriteBeverageService;
+    private final CustomBeverageService customBeverageService;
+    private final PresetBeverageService presetBeverageService;
+    private final RequestContextExecutor dashboardExecutor;
+
+    public DashboardResponse getDashboard(User user, int timelineHours) {
+        CompletableFuture<CaffeineIntakeWindow> windowFuture = CompletableFuture.supplyAsync(
+                () -> caffeineCheckService.getIntakeWindow(user),
+                dashboardExecutor
+        );
+        CompletableFuture<List<FavoriteBeverageResponse>> favoritesFuture = CompletableFuture.supplyAsync(
+                () -> favoriteBeverageService.getFavorites(user),
+                dashboardExecutor
+        );
+        CompletableFuture<List<CustomBeverageResponse>> customBeveragesFuture = CompletableFuture.supplyAsync(
+                () -> customBeverageService.getMyCustomBeverages(user),
+                dashboardExecutor
+        );
+
+        List<BeverageCategoryResponse> categories = presetBeverageService.getAllCategories();
+
+        CaffeineIntakeWindow window = join(windowFuture);
+        CurrentCaffeineResponse status = caffeineCheckService.getCurrentStatus(user, window);
+        CaffeineTimelineResponse timeline = statisticsService.getTimeline(user, timelineHours, window);
+        List<CaffeineIntakeResponse> todayIntakes = caffeineIntakeService.getTodayIntakes(window);
+
+        return new DashboardResponse(
+                status,
+                timeline,
+                todayIntakes,
+                join(favoritesFuture),
+                join(customBeveragesFuture),
+                categories
+        );
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
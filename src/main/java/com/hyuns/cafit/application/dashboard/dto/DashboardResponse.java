@@ -0,0 +1,19 @@
+package com.hyuns.cafit.application.dashboard.dto;
+
+import com.hyuns.cafit.application.beverage.dto.BeverageCategoryResponse;
+import com.hyuns.cafit.application.beverage.dto.CustomBeverageResponse;
+import com.hyuns.cafit.application.caffeine.dto.CurrentCaffeineResponse;
+import com.hyuns.cafit.application.favorite.dto.FavoriteBeverageResponse;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.application.statistics.dto.CaffeineTimelineResponse;
+
+import java.util.List;
+
+public record DashboardResponse(
+        CurrentCaffeineResponse status,
+        CaffeineTimelineResponse timeline,
+        List<CaffeineIntakeResponse> todayIntakes,
+        List<FavoriteBeverageResponse> favorites,
+        List<CustomBeverageResponse> customBeverages,
+        List<BeverageCategoryResponse> categories
+) {}
@@ -2,16 +2,26 @@ package com.hyuns.cafit.application.favorite;
 
 import com.hyuns.cafit.application.beverage.CustomBeverageService;
 import com.hyuns.cafit.application.beverage.PresetBeverageService;
+import com.hyuns.cafit.application.caffeine.CaffeineCheckService;
+import com.hyuns.cafit.application.caffeine.dto.CurrentCaffeineResponse;
+import com.hyuns.cafit.application.caffeine.dto.DrinkSafety;
+import com.hyuns.cafit.application.intake.CaffeineIntakeService;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
 import com.hyuns.cafit.domain.beverage.CustomBeverage;
 import com.hyuns.cafit.domain.beverage.PresetBeverage;
+import com.hyuns.cafit.domain.favorite.FavoriteBeverage;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.application.favorite.dto.FavoriteBeverageResponse;
 import com.hyuns.cafit.application.favorite.dto.FavoriteCreateRequest;
+import com.hyuns.cafit.application.favorite.dto.FavoriteIntakeResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +31,8 @@ public class FavoriteBeverageFacade {
     private final FavoriteBeverageService favoriteBeverageService;
     private final PresetBeverageService presetBeverageService;
     private final CustomBeverageService customBeverageService;
+    private final CaffeineCheckService caffeineCheckService;
+    private final CaffeineIntakeService caffeineIntakeService;
 
     @Transactional
     public FavoriteBeverageResponse addFavorite(User user, FavoriteCreateRequest request) {
@@ -36,6 +48,38 @@ public class FavoriteBeverageFacade {
         return favoriteBeverageService.getFavorites(user);
     }
 
+    public List<FavoriteBeverageResponse> getFavoritesWithSafety(User user) {
+        List<FavoriteBeverageResponse> favorites = favoriteBeverageService.getFavorites(user);
+        if (favorites.isEmpty()) {
+            return favorites;
+        }
+
+        List<Double> caffeineAmounts = favorites.stream()
+                .map(FavoriteBeverageResponse::caffeineMg)
+                .toList();
+        List<DrinkSafety> safeties = caffeineCheckService.estimateDrinkSafeties(user, caffeineAmounts);
+
+        return IntStream.range(0, favorites.size())
+                .mapToObj(index -> favorites.get(index).withSafety(safeties.get(index)))
+                .toList();
+    }
+
+    /**
+     * 상태는 섭취 기록이 커밋되어 원장에 반영된 뒤 계산해야 하므로 이 메서드에는 트랜잭션을 걸지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FavoriteIntakeResponse recordFavoriteIntake(
+            Long favoriteId,
+            User user,
+            CaffeineIntakeCreateRequest request
+    ) {
+        FavoriteBeverage favorite = favoriteBeverageService.getFavoriteWithBeverage(favoriteId, user);
+        CaffeineIntakeResponse intake = caffeineIntakeService.recordFavoriteIntake(user, favorite, request);
+        CurrentCaffeineResponse status = caffeineCheckService.getCurrentStatus(user);
+
+        return new FavoriteIntakeResponse(intake, status);
+    }
+
     @Transactional
     public void deleteFavorite(Long favoriteId, User user) {
         favoriteBeverageService.deleteFavorite(favoriteId, user);
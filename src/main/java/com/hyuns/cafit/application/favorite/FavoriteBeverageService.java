@@ -3,11 +3,13 @@ package com.hyuns.cafit.application.favorite;
 import com.hyuns.cafit.domain.beverage.CustomBeverage;
 import com.hyuns.cafit.domain.beverage.PresetBeverage;
 import com.hyuns.cafit.domain.favorite.FavoriteBeverage;
+import com.hyuns.cafit.domain.favorite.event.FavoriteChanged;
 import com.hyuns.cafit.domain.favorite.repository.FavoriteBeverageRepository;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.application.favorite.dto.FavoriteBeverageResponse;
 import com.hyuns.cafit.global.exception.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class FavoriteBeverageService {
 
     private final FavoriteBeverageRepository favoriteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<FavoriteBeverageResponse> getFavorites(User user) {
@@ -28,6 +31,22 @@ public class FavoriteBeverageService {
                 .toList();
     }
 
+    /**
+     * 음료까지 fetch join 된 즐겨찾기를 조회한다.
+     * 즐겨찾기 등록 시 음료 소유권을 검증하므로 즐겨찾기 소유자만 확인한다.
+     */
+    @Transactional(readOnly = true)
+    public FavoriteBeverage getFavoriteWithBeverage(Long favoriteId, User user) {
+        FavoriteBeverage favorite = favoriteRepository.findByIdWithBeverage(favoriteId)
+                .orElseThrow(FavoriteNotFoundException::new);
+
+        if (!favorite.isOwnedBy(user)) {
+            throw new FavoriteAccessDeniedException();
+        }
+
+        return favorite;
+    }
+
     @Transactional
     public void deleteFavorite(Long favoriteId, User user) {
         FavoriteBeverage favorite = favoriteRepository.findById(favoriteId)
@@ -38,6 +57,7 @@ public class FavoriteBeverageService {
         }
 
         favoriteRepository.delete(favorite);
+        eventPublisher.publishEvent(FavoriteChanged.deleted(user.getId(), favoriteId));
     }
 
     @Transactional
@@ -60,6 +80,8 @@ public class FavoriteBeverageService {
 
             favorite.updateOrder(i + 1);
         }
+
+        eventPublisher.publishEvent(FavoriteChanged.reordered(user.getId()));
     }
 
     @Transactional
@@ -72,7 +94,7 @@ public class FavoriteBeverageService {
                 getNextOrder(user)
         );
 
-        return toResponse(favoriteRepository.save(favorite));
+        return saveAndPublish(user, favorite);
     }
 
     @Transactional
@@ -85,7 +107,13 @@ public class FavoriteBeverageService {
                 getNextOrder(user)
         );
 
-        return toResponse(favoriteRepository.save(favorite));
+        return saveAndPublish(user, favorite);
+    }
+
+    private FavoriteBeverageResponse saveAndPublish(User user, FavoriteBeverage favorite) {
+        FavoriteBeverage saved = favoriteRepository.save(favorite);
+        eventPublisher.publishEvent(FavoriteChanged.added(user.getId(), saved.getId()));
+        return toResponse(saved);
     }
 
     private int getNextOrder(User user) {
@@ -1,5 +1,6 @@
 package com.hyuns.cafit.application.favorite.dto;
 
+import com.hyuns.cafit.application.caffeine.dto.DrinkSafety;
 import com.hyuns.cafit.domain.beverage.BeverageType;
 import com.hyuns.cafit.domain.beverage.CustomBeverage;
 import com.hyuns.cafit.domain.beverage.PresetBeverage;
@@ -14,7 +15,8 @@ public record FavoriteBeverageResponse(
         String category,
         int volumeMl,
         double caffeineMg,
-        int displayOrder
+        int displayOrder,
+        DrinkSafety safety
 ) {
     public static FavoriteBeverageResponse fromPreset(FavoriteBeverage favorite, PresetBeverage beverage) {
         return new FavoriteBeverageResponse(
@@ -26,7 +28,8 @@ public record FavoriteBeverageResponse(
                 beverage.getCategory().getDisplayName(),
                 beverage.getVolumeMl(),
                 beverage.getCaffeineMg(),
-                favorite.getDisplayOrder()
+                favorite.getDisplayOrder(),
+                null
         );
     }
 
@@ -40,7 +43,23 @@ public record FavoriteBeverageResponse(
                 beverage.getCategory().getDisplayName(),
                 beverage.getVolumeMl(),
                 beverage.getCaffeineMg(),
-                favorite.getDisplayOrder()
+                favorite.getDisplayOrder(),
+                null
+        );
+    }
+
+    public FavoriteBeverageResponse withSafety(DrinkSafety safety) {
+        return new FavoriteBeverageResponse(
+                id,
+                type,
+                beverageId,
+                name,
+                brandName,
+                category,
+                volumeMl,
+                caffeineMg,
+                displayOrder,
+                safety
         );
     }
 }
@@ -0,0 +1,9 @@
+package com.hyuns.cafit.application.favorite.dto;
+
+import com.hyuns.cafit.application.caffeine.dto.CurrentCaffeineResponse;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+
+public record FavoriteIntakeResponse(
+        CaffeineIntakeResponse intake,
+        CurrentCaffeineResponse status
+) {}
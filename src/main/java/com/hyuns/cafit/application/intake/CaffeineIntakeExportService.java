@@ -0,0 +1,32 @@
+package com.hyuns.cafit.application.intake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.infrastructure.intake.archive.IntakeArchiveStorage;
+import com.hyuns.cafit.infrastructure.intake.persistence.CaffeineIntakeJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Writer;
+
+/**
+ * 아카이브된 기록은 모두 DB 에 남은 기록보다 오래되었으므로 먼저 출력한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CaffeineIntakeExportService {
+    private final ObjectMapper objectMapper;
+    private final CaffeineIntakeJdbcRepository intakeJdbcRepository;
+    private final IntakeArchiveStorage archiveStorage;
+
+    @Transactional(readOnly = true)
+    public void exportIntakes(User user, IntakeFileFormat format, boolean includeDailyTotals, Writer writer) {
+        IntakeExportWriter exportWriter = new IntakeExportWriter(writer, format, includeDailyTotals, objectMapper);
+
+        exportWriter.writeHeader();
+        archiveStorage.forEach(user.getId(), exportWriter::write);
+        intakeJdbcRepository.streamByUser(user, exportWriter::write);
+        exportWriter.finish();
+    }
+}
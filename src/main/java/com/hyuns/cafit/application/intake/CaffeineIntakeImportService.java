@@ -0,0 +1,186 @@
+package com.hyuns.cafit.application.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyuns.cafit.application.intake.dto.IntakeImportResponse;
+import com.hyuns.cafit.application.intake.dto.IntakeImportRow;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+import com.hyuns.cafit.domain.beverage.CustomBeverage;
+import com.hyuns.cafit.domain.beverage.PresetBeverage;
+import com.hyuns.cafit.domain.beverage.repository.CustomBeverageRepository;
+import com.hyuns.cafit.domain.beverage.repository.PresetBeverageRepository;
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.domain.intake.event.IntakesImported;
+import com.hyuns.cafit.domain.intake.repository.CaffeineIntakeRepository;
+import com.hyuns.cafit.domain.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 음료 목록은 미리 한 번 읽어 두고, 검증한 행은 batch-size 단위로 배치 저장한다.
+ */
+@Service
+public class CaffeineIntakeImportService {
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String CSV_HEADER_PREFIX = "consumedAt";
+    private static final String CSV_DELIMITER = ",";
+    private static final String CSV_COMMENT_PREFIX = "#";
+
+    private final ObjectMapper objectMapper;
+    private final CaffeineIntakeRepository intakeRepository;
+    private final PresetBeverageRepository presetBeverageRepository;
+    private final CustomBeverageRepository customBeverageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public CaffeineIntakeImportService(
+            ObjectMapper objectMapper,
+            CaffeineIntakeRepository intakeRepository,
+            PresetBeverageRepository presetBeverageRepository,
+            CustomBeverageRepository customBeverageRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${cafit.intake.import.batch-size:500}") int batchSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.intakeRepository = intakeRepository;
+        this.presetBeverageRepository = presetBeverageRepository;
+        this.customBeverageRepository = customBeverageRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public IntakeImportResponse importIntakes(User user, BufferedReader reader, IntakeFileFormat format) {
+        Map<Long, PresetBeverage> presetBeverages = presetBeverageRepository.findAll()
+                .stream()
+                .collect(Collectors.toMap(PresetBeverage::getId, beverage -> beverage));
+        Map<Long, CustomBeverage> customBeverages = customBeverageRepository.findByUser(user)
+                .stream()
+                .collect(Collectors.toMap(CustomBeverage::getId, beverage -> beverage));
+
+        IntakeImportSummary summary = new IntakeImportSummary(MAX_REPORTED_ERRORS);
+        List<CaffeineIntake> chunk = new ArrayList<>(batchSize);
+
+        long lineNumber = 0;
+        for (String line = readLine(reader); line != null; line = readLine(reader)) {
+            lineNumber++;
+            if (line.isBlank() || isCsvMetaLine(line, format)) {
+                continue;
+            }
+
+            try {
+                IntakeImportRow row = parse(line, format);
+                CaffeineIntake intake = toIntake(user, row, presetBeverages, customBeverages);
+                chunk.add(intake);
+                summary.imported(intake);
+            } catch (RejectedRowException e) {
+                summary.failed(lineNumber, e.getMessage());
+            }
+
+            if (chunk.size() == batchSize) {
+                intakeRepository.saveAllInBatch(chunk);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            intakeRepository.saveAllInBatch(chunk);
+        }
+
+        IntakeImportResponse response = summary.toResponse();
+        if (response.importedRows() > 0) {
+            eventPublisher.publishEvent(new IntakesImported(user.getId(), response.importedRows()));
+        }
+        return response;
+    }
+
+    private String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isCsvMetaLine(String line, IntakeFileFormat format) {
+        return format == IntakeFileFormat.CSV
+                && (line.startsWith(CSV_HEADER_PREFIX) || line.startsWith(CSV_COMMENT_PREFIX));
+    }
+
+    private IntakeImportRow parse(String line, IntakeFileFormat format) {
+        IntakeImportRow row = switch (format) {
+            case CSV -> parseCsv(line);
+            case NDJSON -> parseNdjson(line);
+        };
+
+        if (row.consumedAt() == null || row.sourceType() == null || row.beverageId() == null) {
+            throw new RejectedRowException("consumedAt, sourceType, beverageId 는 필수입니다");
+        }
+        return row;
+    }
+
+    private IntakeImportRow parseCsv(String line) {
+        String[] columns = line.split(CSV_DELIMITER);
+        if (columns.length < 3) {
+            throw new RejectedRowException("컬럼 수가 올바르지 않습니다 (consumedAt,sourceType,beverageId)");
+        }
+
+        try {
+            return new IntakeImportRow(
+                    LocalDateTime.parse(columns[0].trim()),
+                    BeverageType.valueOf(columns[1].trim()),
+                    Long.parseLong(columns[2].trim())
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new RejectedRowException("값 형식이 올바르지 않습니다");
+        }
+    }
+
+    private IntakeImportRow parseNdjson(String line) {
+        try {
+            return objectMapper.readValue(line, IntakeImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new RejectedRowException("JSON 형식이 올바르지 않습니다");
+        }
+    }
+
+    private CaffeineIntake toIntake(
+            User user,
+            IntakeImportRow row,
+            Map<Long, PresetBeverage> presetBeverages,
+            Map<Long, CustomBeverage> customBeverages
+    ) {
+        if (row.sourceType().isPreset()) {
+            PresetBeverage beverage = presetBeverages.get(row.beverageId());
+            if (beverage == null) {
+                throw new RejectedRowException("음료를 찾을 수 없습니다");
+            }
+            return CaffeineIntake.fromPreset(user, beverage, row.consumedAt());
+        }
+
+        CustomBeverage beverage = customBeverages.get(row.beverageId());
+        if (beverage == null) {
+            throw new RejectedRowException("커스텀 음료를 찾을 수 없습니다");
+        }
+        return CaffeineIntake.fromCustom(user, beverage, row.consumedAt());
+    }
+
+    private static class RejectedRowException extends RuntimeException {
+
+        RejectedRowException(String reason) {
+            super(reason);
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package com.hyuns.cafit.application.intake;
 
+import com.hyuns.cafit.application.caffeine.CaffeineIntakeWindow;
 import com.hyuns.cafit.domain.beverage.CustomBeverage;
 import com.hyuns.cafit.domain.beverage.repository.CustomBeverageRepository;
 import com.hyuns.cafit.domain.beverage.PresetBeverage;
 import com.hyuns.cafit.domain.beverage.repository.PresetBeverageRepository;
+import com.hyuns.cafit.domain.favorite.FavoriteBeverage;
 import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.domain.intake.event.IntakeDeleted;
+import com.hyuns.cafit.domain.intake.event.IntakeRecorded;
 import com.hyuns.cafit.domain.intake.repository.CaffeineIntakeRepository;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.application.intake.dto.IntakeCursor;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryResponse;
 import com.hyuns.cafit.global.exception.BeverageAccessDeniedException;
 import com.hyuns.cafit.global.exception.BeverageNotFoundException;
 import com.hyuns.cafit.global.exception.CustomBeverageNotFoundException;
 import com.hyuns.cafit.global.exception.IntakeAccessDeniedException;
 import com.hyuns.cafit.global.exception.IntakeNotFoundException;
+import com.hyuns.cafit.infrastructure.intake.persistence.CaffeineIntakeQueryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,26 +32,43 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CaffeineIntakeService {
+    private static final int MAX_HISTORY_LIMIT = 100;
+
     private final Clock clock;
     private final CaffeineIntakeRepository intakeRepository;
+    private final CaffeineIntakeQueryRepository intakeQueryRepository;
     private final PresetBeverageRepository presetBeverageRepository;
     private final CustomBeverageRepository customBeverageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CaffeineIntakeResponse recordPresetIntake(
             User user,
             Long beverageId,
             CaffeineIntakeCreateRequest request
+    ) {
+        return recordPresetIntake(user, beverageId, request, null);
+    }
+
+    @Transactional
+    public CaffeineIntakeResponse recordPresetIntake(
+            User user,
+            Long beverageId,
+            CaffeineIntakeCreateRequest request,
+            String idempotencyKey
     ) {
         PresetBeverage beverage = presetBeverageRepository.findById(beverageId)
                 .orElseThrow(BeverageNotFoundException::new);
 
         CaffeineIntake intake = CaffeineIntake.fromPreset(user, beverage, request.consumedAt());
+        intake.assignIdempotencyKey(idempotencyKey);
         CaffeineIntake saved = intakeRepository.save(intake);
+        eventPublisher.publishEvent(IntakeRecorded.from(saved));
 
         return CaffeineIntakeResponse.from(saved);
     }
@@ -52,6 +78,16 @@ public class CaffeineIntakeService {
             User user,
             Long beverageId,
             CaffeineIntakeCreateRequest request
+    ) {
+        return recordCustomIntake(user, beverageId, request, null);
+    }
+
+    @Transactional
+    public CaffeineIntakeResponse recordCustomIntake(
+            User user,
+            Long beverageId,
+            CaffeineIntakeCreateRequest request,
+            String idempotencyKey
     ) {
         CustomBeverage beverage = customBeverageRepository.findById(beverageId)
                 .orElseThrow(CustomBeverageNotFoundException::new);
@@ -61,11 +97,32 @@ public class CaffeineIntakeService {
         }
 
         CaffeineIntake intake = CaffeineIntake.fromCustom(user, beverage, request.consumedAt());
+        intake.assignIdempotencyKey(idempotencyKey);
+        CaffeineIntake saved = intakeRepository.save(intake);
+        eventPublisher.publishEvent(IntakeRecorded.from(saved));
+
+        return CaffeineIntakeResponse.from(saved);
+    }
+
+    @Transactional
+    public CaffeineIntakeResponse recordFavoriteIntake(
+            User user,
+            FavoriteBeverage favorite,
+            CaffeineIntakeCreateRequest request
+    ) {
+        CaffeineIntake intake = CaffeineIntake.fromFavorite(user, favorite, request.consumedAt());
         CaffeineIntake saved = intakeRepository.save(intake);
+        eventPublisher.publishEvent(IntakeRecorded.from(saved));
 
         return CaffeineIntakeResponse.from(saved);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<CaffeineIntakeResponse> findIntakeByIdempotencyKey(User user, String idempotencyKey) {
+        return intakeRepository.findByUserAndIdempotencyKey(user, idempotencyKey)
+                .map(CaffeineIntakeResponse::from);
+    }
+
     @Transactional(readOnly = true)
     public List<CaffeineIntakeResponse> getTodayIntakes(User user) {
         LocalDate today = LocalDate.now(clock);
@@ -81,6 +138,23 @@ public class CaffeineIntakeService {
                 .toList();
     }
 
+    public List<CaffeineIntakeResponse> getTodayIntakes(CaffeineIntakeWindow window) {
+        return window.todayIntakes()
+                .stream()
+                .map(CaffeineIntakeResponse::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public IntakeHistoryResponse getIntakeHistory(User user, String before, int limit) {
+        IntakeCursor cursor = before == null ? null : IntakeCursor.parse(before);
+        int pageSize = Math.clamp(limit, 1, MAX_HISTORY_LIMIT);
+
+        List<IntakeHistoryRow> fetched = intakeQueryRepository.findHistoryBefore(user, cursor, pageSize + 1);
+
+        return IntakeHistoryResponse.of(fetched, pageSize);
+    }
+
     @Transactional
     public void deleteIntake(Long intakeId, User user) {
         CaffeineIntake intake = intakeRepository.findById(intakeId)
@@ -91,6 +165,7 @@ public class CaffeineIntakeService {
         }
 
         intakeRepository.delete(intake);
+        eventPublisher.publishEvent(IntakeDeleted.from(intake));
     }
 
 }
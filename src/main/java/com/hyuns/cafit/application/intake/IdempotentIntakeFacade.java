@@ -0,0 +1,76 @@
+package com.hyuns.cafit.application.intake;
+
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.global.exception.InvalidIdempotencyKeyException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 재시도는 같은 consumedAt 을 보내므로 (user_id, idempotency_key, consumed_at) 유니크 제약에 걸리면 기존 기록을 응답한다.
+ * 제약 위반 뒤에도 기존 기록을 조회할 수 있도록 트랜잭션 밖에서 동작한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotentIntakeFacade {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final CaffeineIntakeService caffeineIntakeService;
+    private final RecentIdempotencyKeys recentIdempotencyKeys;
+
+    public CaffeineIntakeResponse recordPresetIntake(
+            User user,
+            Long beverageId,
+            CaffeineIntakeCreateRequest request,
+            String idempotencyKey
+    ) {
+        return recordOnce(user, idempotencyKey,
+                () -> caffeineIntakeService.recordPresetIntake(user, beverageId, request, idempotencyKey));
+    }
+
+    public CaffeineIntakeResponse recordCustomIntake(
+            User user,
+            Long beverageId,
+            CaffeineIntakeCreateRequest request,
+            String idempotencyKey
+    ) {
+        return recordOnce(user, idempotencyKey,
+                () -> caffeineIntakeService.recordCustomIntake(user, beverageId, request, idempotencyKey));
+    }
+
+    private CaffeineIntakeResponse recordOnce(
+            User user,
+            String idempotencyKey,
+            Supplier<CaffeineIntakeResponse> record
+    ) {
+        validate(idempotencyKey);
+
+        Optional<CaffeineIntakeResponse> recent = recentIdempotencyKeys.find(user.getId(), idempotencyKey);
+        if (recent.isPresent()) {
+            return recent.get();
+        }
+
+        CaffeineIntakeResponse response;
+        try {
+            response = record.get();
+        } catch (DataIntegrityViolationException e) {
+            response = caffeineIntakeService.findIntakeByIdempotencyKey(user, idempotencyKey)
+                    .orElseThrow(() -> e);
+        }
+
+        recentIdempotencyKeys.put(user.getId(), idempotencyKey, response);
+        return response;
+    }
+
+    private void validate(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+    }
+}
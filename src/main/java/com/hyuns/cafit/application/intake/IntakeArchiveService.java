@@ -0,0 +1,109 @@
+package com.hyuns.cafit.application.intake;
+
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.infrastructure.intake.archive.IntakeArchiveStorage;
+import com.hyuns.cafit.infrastructure.intake.persistence.CaffeineIntakeJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 기준(after-days)보다 오래된 달의 기록을 아카이브 파일로 옮기고 caffeine_intakes 에서 지운다.
+ * 파일을 먼저 쓰고 나서 지우므로 중간에 실패해도 기록이 사라지지 않는다. (재실행 시 id 기준으로 합쳐진다)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "cafit.intake.archive.enabled", havingValue = "true")
+public class IntakeArchiveService {
+    private final Clock clock;
+    private final CaffeineIntakeJdbcRepository intakeJdbcRepository;
+    private final IntakeArchiveStorage archiveStorage;
+    private final int afterDays;
+
+    public IntakeArchiveService(
+            Clock clock,
+            CaffeineIntakeJdbcRepository intakeJdbcRepository,
+            IntakeArchiveStorage archiveStorage,
+            @Value("${cafit.intake.archive.after-days:365}") int afterDays
+    ) {
+        this.clock = clock;
+        this.intakeJdbcRepository = intakeJdbcRepository;
+        this.archiveStorage = archiveStorage;
+        this.afterDays = afterDays;
+    }
+
+    @Scheduled(cron = "${cafit.intake.archive.cron:0 30 3 * * *}")
+    public void archiveOldIntakes() {
+        LocalDateTime cutoff = archiveCutoff();
+        List<Long> userIds = intakeJdbcRepository.findUserIdsWithIntakesBefore(cutoff);
+
+        int archivedRows = 0;
+        for (Long userId : userIds) {
+            archivedRows += archiveUser(userId, cutoff);
+        }
+
+        if (archivedRows > 0) {
+            log.info("섭취 기록 아카이브 완료: 사용자 {}명, {}건 (기준 {})", userIds.size(), archivedRows, cutoff);
+        }
+    }
+
+    // 월 파일이 중간에 잘리지 않도록 기준 시각을 월 초로 맞춘다
+    private LocalDateTime archiveCutoff() {
+        return YearMonth.from(LocalDate.now(clock).minusDays(afterDays)).atDay(1).atStartOfDay();
+    }
+
+    private int archiveUser(Long userId, LocalDateTime cutoff) {
+        MonthBuffer buffer = new MonthBuffer(userId);
+        intakeJdbcRepository.streamByUserBefore(userId, cutoff, buffer::add);
+        buffer.flush();
+
+        if (buffer.archivedIds.isEmpty()) {
+            return 0;
+        }
+        intakeJdbcRepository.deleteByIds(userId, buffer.archivedIds);
+        return buffer.archivedIds.size();
+    }
+
+    /**
+     * consumedAt 순으로 들어오는 기록을 한 달치만 모았다가 파일로 쓴다.
+     */
+    private class MonthBuffer {
+        private final Long userId;
+        private final List<IntakeHistoryRow> rows = new ArrayList<>();
+        private final List<Long> archivedIds = new ArrayList<>();
+        private YearMonth month;
+
+        private MonthBuffer(Long userId) {
+            this.userId = userId;
+        }
+
+        private void add(IntakeHistoryRow row) {
+            YearMonth rowMonth = YearMonth.from(row.consumedAt());
+            if (!rowMonth.equals(month)) {
+                flush();
+                month = rowMonth;
+            }
+            rows.add(row);
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            archiveStorage.archive(userId, month, rows);
+            for (IntakeHistoryRow row : rows) {
+                archivedIds.add(row.id());
+            }
+            rows.clear();
+        }
+    }
+}
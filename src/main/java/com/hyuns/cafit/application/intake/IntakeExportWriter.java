@@ -0,0 +1,128 @@
+package com.hyuns.cafit.application.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyuns.cafit.application.intake.dto.IntakeDailyTotal;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.hyuns.cafit.global.util.NumberUtils.round;
+
+/**
+ * 섭취 기록을 한 행씩 받아 바로 출력한다. 메모리에는 현재 날짜의 합계만 유지한다.
+ * 일별 합계는 날짜가 바뀔 때 출력한다 (CSV 는 "#daily,날짜,합계,건수" 주석 행, NDJSON 은 dailyTotal 객체).
+ */
+class IntakeExportWriter {
+
+    private static final String CSV_HEADER =
+            "consumedAt,sourceType,beverageId,beverageName,brandName,category,volumeMl,caffeineMg";
+
+    private final Writer writer;
+    private final IntakeFileFormat format;
+    private final boolean includeDailyTotals;
+    private final ObjectMapper objectMapper;
+
+    private LocalDate currentDate;
+    private double currentTotalMg;
+    private int currentCount;
+
+    IntakeExportWriter(Writer writer, IntakeFileFormat format, boolean includeDailyTotals, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.format = format;
+        this.includeDailyTotals = includeDailyTotals;
+        this.objectMapper = objectMapper;
+    }
+
+    void writeHeader() {
+        if (format == IntakeFileFormat.CSV) {
+            writeLine(CSV_HEADER);
+        }
+    }
+
+    void write(IntakeHistoryRow row) {
+        LocalDate date = row.consumedAt().toLocalDate();
+        if (includeDailyTotals && !date.equals(currentDate)) {
+            writeDailyTotal();
+            currentDate = date;
+            currentTotalMg = 0;
+            currentCount = 0;
+        }
+        currentTotalMg += row.caffeineMg();
+        currentCount++;
+
+        switch (format) {
+            case CSV -> writeLine(toCsv(row));
+            case NDJSON -> writeLine(toJson(row));
+        }
+    }
+
+    void finish() {
+        if (includeDailyTotals) {
+            writeDailyTotal();
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeDailyTotal() {
+        if (currentDate == null) {
+            return;
+        }
+
+        IntakeDailyTotal dailyTotal = new IntakeDailyTotal(currentDate, round(currentTotalMg), currentCount);
+        switch (format) {
+            case CSV -> writeLine("#daily," + dailyTotal.date() + "," + dailyTotal.totalCaffeineMg()
+                    + "," + dailyTotal.count());
+            case NDJSON -> writeLine(toJson(Map.of("dailyTotal", dailyTotal)));
+        }
+    }
+
+    private String toCsv(IntakeHistoryRow row) {
+        return String.join(",",
+                row.consumedAt().toString(),
+                Objects.toString(row.sourceType(), ""),
+                Objects.toString(row.sourceBeverageId(), ""),
+                escapeCsv(row.beverageName()),
+                escapeCsv(row.brandName()),
+                row.category().name(),
+                String.valueOf(row.volumeMl()),
+                String.valueOf(row.caffeineMg())
+        );
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hyuns.cafit.application.intake;
+
+import com.hyuns.cafit.global.exception.InvalidIntakeFileFormatException;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+public enum IntakeFileFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    IntakeFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static IntakeFileFormat from(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst()
+                .orElseThrow(InvalidIntakeFileFormatException::new);
+    }
+}
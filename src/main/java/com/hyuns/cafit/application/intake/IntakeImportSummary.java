@@ -0,0 +1,61 @@
+package com.hyuns.cafit.application.intake;
+
+import com.hyuns.cafit.application.intake.dto.IntakeImportError;
+import com.hyuns.cafit.application.intake.dto.IntakeImportResponse;
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hyuns.cafit.global.util.NumberUtils.round;
+
+/**
+ * 가져오기 진행 중 집계. 행마다 누적만 하고 응답은 마지막에 한 번 만든다.
+ * 오류는 개수는 모두 세되 상세 내용은 최대 maxReportedErrors 건만 보관한다.
+ */
+class IntakeImportSummary {
+
+    private final int maxReportedErrors;
+    private final List<IntakeImportError> errors = new ArrayList<>();
+    private long importedRows;
+    private long failedRows;
+    private double importedCaffeineMg;
+    private LocalDateTime firstConsumedAt;
+    private LocalDateTime lastConsumedAt;
+
+    IntakeImportSummary(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void imported(CaffeineIntake intake) {
+        importedRows++;
+        importedCaffeineMg += intake.getCaffeineMg();
+
+        LocalDateTime consumedAt = intake.getConsumedAt();
+        if (firstConsumedAt == null || consumedAt.isBefore(firstConsumedAt)) {
+            firstConsumedAt = consumedAt;
+        }
+        if (lastConsumedAt == null || consumedAt.isAfter(lastConsumedAt)) {
+            lastConsumedAt = consumedAt;
+        }
+    }
+
+    void failed(long line, String reason) {
+        failedRows++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new IntakeImportError(line, reason));
+        }
+    }
+
+    IntakeImportResponse toResponse() {
+        return new IntakeImportResponse(
+                importedRows,
+                failedRows,
+                round(importedCaffeineMg),
+                firstConsumedAt,
+                lastConsumedAt,
+                List.copyOf(errors)
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.hyuns.cafit.application.intake;
+
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.domain.intake.event.IntakeDeleted;
+import com.hyuns.cafit.global.event.UserEvent;
+import com.hyuns.cafit.global.event.UserEventHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 처리한 멱등 키와 응답 (최대 MAX_ENTRIES 건, LRU). 밀려난 키는 DB 유니크 제약으로 확인한다.
+ * 기록이 삭제되면 그 키도 잊는다. 삭제된 행은 유니크 제약에 걸리지 않으므로 DB 로 확인한 재시도와 같은 결과가 된다.
+ */
+@Component
+public class RecentIdempotencyKeys implements UserEventHandler {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, String> keysByIntakeId = new HashMap<>();
+    private final Map<String, CaffeineIntakeResponse> responses = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CaffeineIntakeResponse> eldest) {
+            if (size() <= MAX_ENTRIES) {
+                return false;
+            }
+            keysByIntakeId.remove(eldest.getValue().id());
+            return true;
+        }
+    };
+
+    public Optional<CaffeineIntakeResponse> find(Long userId, String idempotencyKey) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(responses.get(toKey(userId, idempotencyKey)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(Long userId, String idempotencyKey, CaffeineIntakeResponse response) {
+        lock.lock();
+        try {
+            String key = toKey(userId, idempotencyKey);
+            CaffeineIntakeResponse previous = responses.put(key, response);
+            if (previous != null) {
+                keysByIntakeId.remove(previous.id());
+            }
+            keysByIntakeId.put(response.id(), key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void handle(UserEvent event) {
+        if (!(event instanceof IntakeDeleted deleted)) {
+            return;
+        }
+        lock.lock();
+        try {
+            String key = keysByIntakeId.remove(deleted.intakeId());
+            if (key != null) {
+                responses.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String toKey(Long userId, String idempotencyKey) {
+        return userId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hyuns.cafit.application.intake.dto;
+
+import com.hyuns.cafit.global.exception.InvalidIntakeCursorException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 섭취 기록 페이지 커서. "consumedAt,id" 형식이며, 이 위치보다 이전 기록을 조회한다.
+ */
+public record IntakeCursor(
+        LocalDateTime consumedAt,
+        Long id
+) {
+    private static final String DELIMITER = ",";
+
+    public static IntakeCursor parse(String value) {
+        String[] parts = value.split(DELIMITER);
+        if (parts.length != 2) {
+            throw new InvalidIntakeCursorException();
+        }
+
+        try {
+            return new IntakeCursor(LocalDateTime.parse(parts[0].trim()), Long.parseLong(parts[1].trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidIntakeCursorException();
+        }
+    }
+
+    public static IntakeCursor from(IntakeHistoryRow row) {
+        return new IntakeCursor(row.consumedAt(), row.id());
+    }
+
+    public String encode() {
+        return consumedAt + DELIMITER + id;
+    }
+}
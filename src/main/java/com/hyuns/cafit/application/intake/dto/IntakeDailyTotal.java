@@ -0,0 +1,9 @@
+package com.hyuns.cafit.application.intake.dto;
+
+import java.time.LocalDate;
+
+public record IntakeDailyTotal(
+        LocalDate date,
+        double totalCaffeineMg,
+        int count
+) {}
@@ -0,0 +1,22 @@
+package com.hyuns.cafit.application.intake.dto;
+
+import java.util.List;
+
+public record IntakeHistoryResponse(
+        List<IntakeHistoryRow> intakes,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * @param fetched limit + 1 건까지 조회한 결과. 초과분이 있으면 다음 페이지가 존재한다.
+     */
+    public static IntakeHistoryResponse of(List<IntakeHistoryRow> fetched, int limit) {
+        if (fetched.size() <= limit) {
+            return new IntakeHistoryResponse(fetched, null, false);
+        }
+
+        List<IntakeHistoryRow> page = fetched.subList(0, limit);
+        String nextCursor = IntakeCursor.from(page.get(limit - 1)).encode();
+        return new IntakeHistoryResponse(List.copyOf(page), nextCursor, true);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hyuns.cafit.application.intake.dto;
+
+import com.hyuns.cafit.domain.beverage.BeverageCategory;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+
+import java.time.LocalDateTime;
+
+public record IntakeHistoryRow(
+        Long id,
+        String beverageName,
+        String brandName,
+        BeverageCategory category,
+        int volumeMl,
+        double caffeineMg,
+        LocalDateTime consumedAt,
+        BeverageType sourceType,
+        Long sourceBeverageId
+) {}
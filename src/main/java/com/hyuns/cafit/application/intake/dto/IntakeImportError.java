@@ -0,0 +1,6 @@
+package com.hyuns.cafit.application.intake.dto;
+
+public record IntakeImportError(
+        long line,
+        String reason
+) {}
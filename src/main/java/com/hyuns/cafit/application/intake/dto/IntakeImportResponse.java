@@ -0,0 +1,13 @@
+package com.hyuns.cafit.application.intake.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record IntakeImportResponse(
+        long importedRows,
+        long failedRows,
+        double importedCaffeineMg,
+        LocalDateTime firstConsumedAt,
+        LocalDateTime lastConsumedAt,
+        List<IntakeImportError> errors
+) {}
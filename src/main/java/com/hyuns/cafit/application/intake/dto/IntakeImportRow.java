@@ -0,0 +1,17 @@
+package com.hyuns.cafit.application.intake.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가져오기 한 줄. CSV 는 "consumedAt,sourceType,beverageId" 순서이며 이후 컬럼은 무시한다.
+ * 내보내기 파일(CSV/NDJSON)을 그대로 다시 가져올 수 있다.
+ */
+public record IntakeImportRow(
+        LocalDateTime consumedAt,
+        BeverageType sourceType,
+        @JsonAlias("sourceBeverageId")
+        Long beverageId
+) {}
@@ -1,13 +1,18 @@
 package com.hyuns.cafit.application.statistics;
 
-import com.hyuns.cafit.application.caffeine.CaffeineDecayCalculator;
+import com.hyuns.cafit.application.caffeine.CaffeineIntakeWindow;
+import com.hyuns.cafit.application.caffeine.CaffeineLedger;
+import com.hyuns.cafit.application.caffeine.CaffeineLedgerSnapshot;
+import com.hyuns.cafit.application.intake.dto.IntakeDailyTotal;
 import com.hyuns.cafit.domain.intake.CaffeineIntake;
 import com.hyuns.cafit.domain.intake.repository.CaffeineIntakeRepository;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.application.statistics.dto.*;
+import com.hyuns.cafit.infrastructure.intake.archive.IntakeArchiveStorage;
 import com.hyuns.cafit.infrastructure.intake.persistence.CaffeineIntakeQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
@@ -15,7 +20,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.hyuns.cafit.global.util.NumberUtils.round;
 
@@ -24,31 +33,28 @@ import static com.hyuns.cafit.global.util.NumberUtils.round;
 @Transactional(readOnly = true)
 public class CaffeineStatisticsService {
     private final Clock clock;
-    private final CaffeineDecayCalculator decayCalculator;
+    private final CaffeineTimelineBuilder timelineBuilder;
     private final CaffeineIntakeRepository intakeRepository;
     private final CaffeineIntakeQueryRepository intakeQueryRepository;
+    private final IntakeArchiveStorage archiveStorage;
+    private final CaffeineLedger caffeineLedger;
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CaffeineTimelineResponse getTimeline(User user, int hours) {
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDateTime bedtime = calculateBedtime(user, now);
-
-        List<CaffeineIntake> intakes = getRecentIntakes(user, now);
-
-        List<TimelineDataPoint> dataPoints = buildTimelineDataPoints(intakes, user, now, hours);
+        return timelineBuilder.build(user, caffeineLedger.snapshot(user), hours);
+    }
 
-        return new CaffeineTimelineResponse(
-                dataPoints,
-                now,
-                bedtime,
-                user.getTargetSleepCaffeine()
-        );
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CaffeineTimelineResponse getTimeline(User user, int hours, CaffeineIntakeWindow window) {
+        return timelineBuilder.build(user, CaffeineLedgerSnapshot.of(window), hours);
     }
 
     public DailyStatisticsResponse getDailyStatistics(User user, int days) {
         LocalDate endDate = LocalDate.now(clock);
         // 8일 주의
         LocalDate startDate = endDate.minusDays(days - 1);
-        List<DailyStat> dailyStats = buildDailyStats(user, startDate, days);
+        Map<LocalDate, IntakeDailyTotal> archivedTotals = archiveStorage.dailyTotals(user.getId(), startDate, endDate);
+        List<DailyStat> dailyStats = buildDailyStats(user, startDate, days, archivedTotals);
         double periodAverage = calculatePeriodAverage(dailyStats);
 
         return new DailyStatisticsResponse(
@@ -58,69 +64,76 @@ public class CaffeineStatisticsService {
                 user.getDailyCaffeineLimit()
         );
     }
+
     public List<TopBeverageStat> getTopBeverages(User user, int days) {
         LocalDateTime end = LocalDateTime.now(clock);
         LocalDateTime start = LocalDate.now(clock).minusDays(days - 1).atStartOfDay();
 
-        return intakeQueryRepository.findTopBeverages(user, start, end, 3);
-    }
-
-    private LocalDateTime calculateBedtime(User user, LocalDateTime now) {
-        LocalDateTime bedtime = now.toLocalDate().atTime(user.getBedTime());
+        Map<TopBeverageKey, Long> archivedCounts = new HashMap<>();
+        archiveStorage.forEachBetween(user.getId(), start, end, item -> archivedCounts.merge(
+                new TopBeverageKey(item.beverageName(), item.brandName(), item.volumeMl()), 1L, Long::sum));
 
-        if (now.isAfter(bedtime)) {
-            bedtime = bedtime.plusDays(1);
+        if (archivedCounts.isEmpty()) {
+            return intakeQueryRepository.findTopBeverages(user, start, end, 3);
         }
-
-        return bedtime;
+        return mergeTopBeverages(
+                intakeQueryRepository.findTopBeverages(user, start, end, Integer.MAX_VALUE),
+                archivedCounts
+        );
     }
 
-    private List<CaffeineIntake> getRecentIntakes(User user, LocalDateTime now) {
-        LocalDateTime startTime = now.minusHours(24);
-        return intakeRepository.findByUserAndConsumedAtBetween(user, startTime, now);
+    // 아카이브 구간이 섞이면 DB 의 전체 그룹과 합친 뒤 상위 3개를 고른다
+    private List<TopBeverageStat> mergeTopBeverages(List<TopBeverageStat> liveStats, Map<TopBeverageKey, Long> counts) {
+        liveStats.forEach(stat -> counts.merge(
+                new TopBeverageKey(stat.beverageName(), stat.brandName(), stat.volumeMl()), stat.count(), Long::sum));
+
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<TopBeverageKey, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(3)
+                .map(entry -> new TopBeverageStat(
+                        entry.getKey().beverageName(),
+                        entry.getKey().brandName(),
+                        entry.getKey().volumeMl(),
+                        entry.getValue()
+                ))
+                .toList();
     }
 
-    private List<TimelineDataPoint> buildTimelineDataPoints(
-            List<CaffeineIntake> intakes,
+    // 데일리통계: 기간 전체를 한 번에 조회해 날짜별로 나눈다
+    private List<DailyStat> buildDailyStats(
             User user,
-            LocalDateTime now,
-            int hours
+            LocalDate startDate,
+            int days,
+            Map<LocalDate, IntakeDailyTotal> archivedTotals
     ) {
-        List<TimelineDataPoint> dataPoints = new ArrayList<>();
+        LocalDate endDate = startDate.plusDays(days - 1);
+        Map<LocalDate, List<CaffeineIntake>> intakesByDate = intakeRepository
+                .findByUserAndConsumedAtBetween(user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX))
+                .stream()
+                .collect(Collectors.groupingBy(intake -> intake.getConsumedAt().toLocalDate()));
 
-        for (int i = 0; i <= hours; i++) {
-            LocalDateTime targetTime = now.plusHours(i);
-            double caffeineMg = decayCalculator.caffeineLevelAt(intakes, targetTime, user.getCaffeineHalfLife());
-            dataPoints.add(new TimelineDataPoint(targetTime, round(caffeineMg)));
-        }
-
-        return dataPoints;
-    }
-
-    // 데일리통계
-    private List<DailyStat> buildDailyStats(User user, LocalDate startDate, int days) {
         List<DailyStat> dailyStats = new ArrayList<>();
 
         for (int i = 0; i < days; i++) {
             LocalDate date = startDate.plusDays(i);
-            dailyStats.add(buildDailyStat(user, date));
+            dailyStats.add(buildDailyStat(date, intakesByDate.getOrDefault(date, List.of()), archivedTotals.get(date)));
         }
 
         return dailyStats;
     }
 
-    private DailyStat buildDailyStat(User user, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-        List<CaffeineIntake> intakes = intakeRepository
-                .findByUserAndConsumedAtBetween(user, startOfDay, endOfDay);
-
+    private DailyStat buildDailyStat(LocalDate date, List<CaffeineIntake> intakes, IntakeDailyTotal archivedTotal) {
         double dailyTotal = intakes.stream()
                 .mapToDouble(CaffeineIntake::getCaffeineMg)
                 .sum();
+        int intakeCount = intakes.size();
 
-        return new DailyStat(date, round(dailyTotal), intakes.size());
+        if (archivedTotal != null) {
+            dailyTotal += archivedTotal.totalCaffeineMg();
+            intakeCount += archivedTotal.count();
+        }
+
+        return new DailyStat(date, round(dailyTotal), intakeCount);
     }
 
     private double calculatePeriodAverage(List<DailyStat> dailyStats) {
@@ -134,4 +147,7 @@ public class CaffeineStatisticsService {
 
         return round(total / dailyStats.size());
     }
+
+    private record TopBeverageKey(String beverageName, String brandName, int volumeMl) {
+    }
 }
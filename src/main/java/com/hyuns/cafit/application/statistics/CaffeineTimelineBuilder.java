@@ -0,0 +1,59 @@
+package com.hyuns.cafit.application.statistics;
+
+import com.hyuns.cafit.application.caffeine.CaffeineDecayCalculator;
+import com.hyuns.cafit.application.caffeine.CaffeineLedgerSnapshot;
+import com.hyuns.cafit.application.statistics.dto.CaffeineTimelineResponse;
+import com.hyuns.cafit.application.statistics.dto.TimelineDataPoint;
+import com.hyuns.cafit.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hyuns.cafit.global.util.NumberUtils.round;
+
+/**
+ * 원장 스냅샷으로 시간별 잔량 타임라인을 만든다. 저장소를 거치지 않으므로 스냅샷만 있으면 어디서든 쓸 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CaffeineTimelineBuilder {
+    private final CaffeineDecayCalculator decayCalculator;
+
+    public CaffeineTimelineResponse build(User user, CaffeineLedgerSnapshot snapshot, int hours) {
+        LocalDateTime now = snapshot.now();
+        LocalDateTime bedtime = calculateBedtime(user, now);
+        List<TimelineDataPoint> dataPoints = buildDataPoints(snapshot, user, hours);
+
+        return new CaffeineTimelineResponse(
+                dataPoints,
+                now,
+                bedtime,
+                user.getTargetSleepCaffeine()
+        );
+    }
+
+    private LocalDateTime calculateBedtime(User user, LocalDateTime now) {
+        LocalDateTime bedtime = now.toLocalDate().atTime(user.getBedTime());
+
+        if (now.isAfter(bedtime)) {
+            bedtime = bedtime.plusDays(1);
+        }
+
+        return bedtime;
+    }
+
+    private List<TimelineDataPoint> buildDataPoints(CaffeineLedgerSnapshot snapshot, User user, int hours) {
+        List<TimelineDataPoint> dataPoints = new ArrayList<>();
+
+        for (int i = 0; i <= hours; i++) {
+            LocalDateTime targetTime = snapshot.now().plusHours(i);
+            double caffeineMg = snapshot.levelAt(decayCalculator, targetTime, user.getCaffeineHalfLife());
+            dataPoints.add(new TimelineDataPoint(targetTime, round(caffeineMg)));
+        }
+
+        return dataPoints;
+    }
+}
@@ -0,0 +1,29 @@
+package com.hyuns.cafit.domain.favorite.event;
+
+import com.hyuns.cafit.global.event.UserEvent;
+
+/**
+ * 즐겨찾기 추가, 삭제, 순서 변경. 순서 변경은 목록 전체가 바뀌므로 favoriteId 가 없다.
+ */
+public record FavoriteChanged(
+        Long userId,
+        Long favoriteId,
+        Type type
+) implements UserEvent {
+
+    public enum Type {
+        ADDED, DELETED, REORDERED
+    }
+
+    public static FavoriteChanged added(Long userId, Long favoriteId) {
+        return new FavoriteChanged(userId, favoriteId, Type.ADDED);
+    }
+
+    public static FavoriteChanged deleted(Long userId, Long favoriteId) {
+        return new FavoriteChanged(userId, favoriteId, Type.DELETED);
+    }
+
+    public static FavoriteChanged reordered(Long userId) {
+        return new FavoriteChanged(userId, null, Type.REORDERED);
+    }
+}
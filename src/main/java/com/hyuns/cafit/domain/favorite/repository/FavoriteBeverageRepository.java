@@ -12,6 +12,8 @@ public interface FavoriteBeverageRepository {
 
     Optional<FavoriteBeverage> findById(Long id);
 
+    Optional<FavoriteBeverage> findByIdWithBeverage(Long id);
+
     List<FavoriteBeverage> findByUserWithBeverages(User user);
 
     boolean existsByUserAndPresetBeverage(User user, PresetBeverage presetBeverage);
@@ -4,6 +4,7 @@ import com.hyuns.cafit.domain.beverage.BeverageCategory;
 import com.hyuns.cafit.domain.beverage.BeverageType;
 import com.hyuns.cafit.domain.beverage.CustomBeverage;
 import com.hyuns.cafit.domain.beverage.PresetBeverage;
+import com.hyuns.cafit.domain.favorite.FavoriteBeverage;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.global.entity.BaseEntity;
 import jakarta.persistence.*;
@@ -14,7 +15,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "caffeine_intakes")
+@Table(
+        name = "caffeine_intakes",
+        indexes = @Index(name = "idx_intake_user_consumed_at_id", columnList = "user_id, consumed_at, id"),
+        // 파티션 테이블(MySQL)의 유니크 키는 파티션 컬럼을 포함해야 하므로 consumed_at 까지 묶는다
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_intake_user_idempotency_key",
+                columnNames = {"user_id", "idempotency_key", "consumed_at"}
+        )
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CaffeineIntake extends BaseEntity {
@@ -49,6 +58,9 @@ public class CaffeineIntake extends BaseEntity {
     @Column(name = "source_beverage_id")
     private Long sourceBeverageId;
 
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
     private CaffeineIntake(
             User user,
             String beverageName,
@@ -99,6 +111,37 @@ public class CaffeineIntake extends BaseEntity {
         );
     }
 
+    public static CaffeineIntake fromFavorite(User user, FavoriteBeverage favorite, LocalDateTime consumedAt) {
+        if (favorite.isPreset()) {
+            return fromPreset(user, favorite.getPresetBeverage(), consumedAt);
+        }
+        return fromCustom(user, favorite.getCustomBeverage(), consumedAt);
+    }
+
+    /**
+     * id 가 정해진 기록을 JPA 를 거치지 않고 엔티티로 만든다. (벤치마크 픽스처)
+     */
+    public static CaffeineIntake restore(
+            Long id,
+            User user,
+            String beverageName,
+            String brandName,
+            BeverageCategory category,
+            int volumeMl,
+            double caffeineMg,
+            LocalDateTime consumedAt,
+            BeverageType sourceType,
+            Long sourceBeverageId,
+            String idempotencyKey
+    ) {
+        CaffeineIntake intake = new CaffeineIntake(
+                user, beverageName, brandName, category, volumeMl, caffeineMg, consumedAt, sourceType, sourceBeverageId
+        );
+        intake.restoreId(id);
+        intake.idempotencyKey = idempotencyKey;
+        return intake;
+    }
+
     public String getDisplayName() {
         if (brandName != null) {
             return String.format("%s(%s) %dml - %.0fmg", beverageName, brandName, volumeMl, caffeineMg);
@@ -106,6 +149,10 @@ public class CaffeineIntake extends BaseEntity {
         return String.format("%s %dml - %.0fmg", beverageName, volumeMl, caffeineMg);
     }
 
+    public void assignIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public boolean isOwnedBy(User user) {
         return this.user.equals(user);
     }
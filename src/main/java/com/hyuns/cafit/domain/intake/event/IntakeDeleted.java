@@ -0,0 +1,22 @@
+package com.hyuns.cafit.domain.intake.event;
+
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.global.event.UserEvent;
+
+import java.time.LocalDateTime;
+
+public record IntakeDeleted(
+        Long userId,
+        Long intakeId,
+        LocalDateTime consumedAt,
+        double caffeineMg
+) implements UserEvent {
+    public static IntakeDeleted from(CaffeineIntake intake) {
+        return new IntakeDeleted(
+                intake.getUser().getId(),
+                intake.getId(),
+                intake.getConsumedAt(),
+                intake.getCaffeineMg()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.hyuns.cafit.domain.intake.event;
+
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.global.event.UserEvent;
+
+import java.time.LocalDateTime;
+
+public record IntakeRecorded(
+        Long userId,
+        Long intakeId,
+        LocalDateTime consumedAt,
+        double caffeineMg
+) implements UserEvent {
+    public static IntakeRecorded from(CaffeineIntake intake) {
+        return new IntakeRecorded(
+                intake.getUser().getId(),
+                intake.getId(),
+                intake.getConsumedAt(),
+                intake.getCaffeineMg()
+        );
+    }
+}
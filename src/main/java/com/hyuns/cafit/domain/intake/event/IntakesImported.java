@@ -0,0 +1,12 @@
+package com.hyuns.cafit.domain.intake.event;
+
+import com.hyuns.cafit.global.event.UserEvent;
+
+/**
+ * 대량 가져오기는 행마다 이벤트를 만들지 않고 끝난 뒤 한 번만 알린다.
+ */
+public record IntakesImported(
+        Long userId,
+        long importedRows
+) implements UserEvent {
+}
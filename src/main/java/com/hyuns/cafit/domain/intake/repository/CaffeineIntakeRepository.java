@@ -11,9 +11,13 @@ public interface CaffeineIntakeRepository {
 
     Optional<CaffeineIntake> findById(Long id);
 
+    Optional<CaffeineIntake> findByUserAndIdempotencyKey(User user, String idempotencyKey);
+
     List<CaffeineIntake> findByUserAndConsumedAtBetween(User user, LocalDateTime start, LocalDateTime end);
 
     CaffeineIntake save(CaffeineIntake caffeineIntake);
 
+    void saveAllInBatch(List<CaffeineIntake> caffeineIntakes);
+
     void delete(CaffeineIntake caffeineIntake);
 }
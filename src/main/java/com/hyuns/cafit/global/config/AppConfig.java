@@ -2,13 +2,25 @@ package com.hyuns.cafit.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.time.Clock;
+import java.util.concurrent.Executors;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
     @Bean
     public Clock clock() {
         return Clock.systemDefaultZone();
     }
+
+    /**
+     * 대시보드의 독립적인 조회를 동시에 실행하기 위한 가상 스레드 실행기.
+     * primary 고정 여부 같은 요청 문맥을 작업마다 옮겨 준다.
+     */
+    @Bean(destroyMethod = "close")
+    public RequestContextExecutor dashboardExecutor() {
+        return new RequestContextExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
 }
@@ -0,0 +1,30 @@
+package com.hyuns.cafit.global.config;
+
+import com.hyuns.cafit.global.metrics.ReadOnlyLoadListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * readOnly 트랜잭션은 HibernateJpaDialect 가 세션을 default read-only + FlushMode.MANUAL 로 연다.
+ * 이 모드로 로드된 엔티티는 dirty checking 스냅샷을 만들지 않으며, 그 효과를 요청별로 집계하는 리스너를 등록한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HibernateListenerConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_LOAD, new ReadOnlyLoadListener());
+    }
+}
@@ -0,0 +1,45 @@
+package com.hyuns.cafit.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * spring.main.lazy-initialization=true (fast-startup 프로필) 이어도 기동 시점에 만드는 빈.
+ * DataSource / EntityManagerFactory 는 첫 요청이 JPA 초기화를 떠안지 않도록, @Scheduled 빈은 만들어져야 등록되므로 즉시 만든다.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    private static final String APPLICATION_PACKAGE = "com.hyuns.cafit.";
+
+    /**
+     * 다른 빈 정의를 처리하는 단계에서 조회되므로 static 으로 등록한다.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && (
+                DataSource.class.isAssignableFrom(beanType)
+                        || EntityManagerFactory.class.isAssignableFrom(beanType)
+                        || AbstractEntityManagerFactoryBean.class.isAssignableFrom(beanType)
+                        || hasScheduledMethods(beanType)
+        );
+    }
+
+    // 자동 구성 빈은 선택 의존성 때문에 메서드 조회가 실패할 수 있어 애플리케이션 빈만 본다
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        if (!beanType.getName().startsWith(APPLICATION_PACKAGE)) {
+            return false;
+        }
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+}
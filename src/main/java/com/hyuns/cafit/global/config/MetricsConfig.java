@@ -0,0 +1,56 @@
+package com.hyuns.cafit.global.config;
+
+import com.hyuns.cafit.global.datasource.StatementCountingDataSource;
+import com.hyuns.cafit.global.metrics.RepositoryMetricsPostProcessor;
+import com.hyuns.cafit.global.metrics.RequestResourceFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 빈 후처리기는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고, MeterRegistry 는 호출 시점에 꺼낸다.
+     */
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 쓰는 dataSource 빈(replica 구성에서는 라우팅 프록시)만 감싸서 SQL 문 수를 센다. 개발/테스트용.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cafit.metrics.query-count", havingValue = "true")
+    public static BeanPostProcessor statementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 요청별 할당 바이트 / CPU 시간. 로그인, 세션 통계 필터까지 포함해서 재도록 가장 바깥에 둔다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cafit.metrics.request-resources", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RequestResourceFilter> requestResourceFilterRegistration(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestResourceFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new RequestResourceFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(0);
+        return registration;
+    }
+}
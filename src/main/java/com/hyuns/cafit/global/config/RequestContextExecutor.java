@@ -0,0 +1,45 @@
+package com.hyuns.cafit.global.config;
+
+import com.hyuns.cafit.global.datasource.PrimaryPinning;
+import com.hyuns.cafit.global.metrics.QueryCounter;
+import com.hyuns.cafit.global.metrics.ReadOnlySessionStats;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 요청 스레드의 문맥을 작업 스레드로 옮겨 실행하는 실행기.
+ * 요청 단위 ThreadLocal 은 상속하지 않으므로, 작업을 넘길 때 값을 읽어 두고 작업 스레드에서 다시 설정한 뒤 끝나면 지운다.
+ */
+public class RequestContextExecutor implements Executor, AutoCloseable {
+
+    private final ExecutorService delegate;
+
+    public RequestContextExecutor(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        boolean pinned = PrimaryPinning.isPinned();
+        ReadOnlySessionStats stats = ReadOnlySessionStats.current();
+        QueryCounter queryCounter = QueryCounter.current();
+        delegate.execute(() -> {
+            PrimaryPinning.set(pinned);
+            ReadOnlySessionStats.set(stats);
+            QueryCounter.set(queryCounter);
+            try {
+                task.run();
+            } finally {
+                PrimaryPinning.clear();
+                ReadOnlySessionStats.clear();
+                QueryCounter.clear();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
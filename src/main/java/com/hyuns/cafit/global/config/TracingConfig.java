@@ -0,0 +1,60 @@
+package com.hyuns.cafit.global.config;
+
+import com.hyuns.cafit.global.datasource.TracingDataSource;
+import com.hyuns.cafit.global.tracing.OtlpJsonFileSpanExporter;
+import com.hyuns.cafit.global.tracing.TracingPostProcessor;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * 컨트롤러, 서비스, 저장소, JDBC 문마다 스팬을 만들고 cafit.tracing.file 에 OTLP/JSON 으로 남긴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cafit.tracing.enabled", havingValue = "true")
+public class TracingConfig {
+
+    private static final String INSTRUMENTATION_SCOPE = "com.hyuns.cafit";
+
+    /**
+     * 빈 후처리기는 OpenTelemetry 빈보다 먼저 만들어지므로 Tracer 는 처음 쓸 때 꺼낸다.
+     */
+    @Bean
+    public static TracingPostProcessor tracingPostProcessor(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return new TracingPostProcessor(tracerOf(openTelemetry));
+    }
+
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor(ObjectProvider<OpenTelemetry> openTelemetry) {
+        Supplier<Tracer> tracer = tracerOf(openTelemetry);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new TracingDataSource(dataSource, tracer);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SpanExporter otlpJsonFileSpanExporter(@Value("${cafit.tracing.file:build/traces/spans.jsonl}") String file) {
+        return new OtlpJsonFileSpanExporter(Path.of(file));
+    }
+
+    private static Supplier<Tracer> tracerOf(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return SingletonSupplier.of(() -> openTelemetry.getIfAvailable(OpenTelemetry::noop).getTracer(INSTRUMENTATION_SCOPE));
+    }
+}
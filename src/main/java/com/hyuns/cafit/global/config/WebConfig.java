@@ -1,8 +1,11 @@
 package com.hyuns.cafit.global.config;
 
+import com.hyuns.cafit.global.metrics.ReadOnlySessionMetricsFilter;
 import com.hyuns.cafit.global.security.LoginFilter;
 import com.hyuns.cafit.global.security.LoginUserArgumentResolver;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,4 +32,15 @@ public class WebConfig implements WebMvcConfigurer {
         registration.setOrder(1);
         return registration;
     }
+
+    @Bean
+    public FilterRegistrationBean<ReadOnlySessionMetricsFilter> readOnlySessionMetricsFilterRegistration(
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        FilterRegistrationBean<ReadOnlySessionMetricsFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new ReadOnlySessionMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(2);
+        return registration;
+    }
 }
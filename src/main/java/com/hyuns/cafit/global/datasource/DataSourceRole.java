@@ -0,0 +1,6 @@
+package com.hyuns.cafit.global.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,42 @@
+package com.hyuns.cafit.global.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Connection / Statement 같은 JDBC 인터페이스를 감싸는 동적 프록시.
+ * equals / hashCode 는 프록시 자신을 기준으로 하고, 나머지 호출은 handler 에 실제 대상과 함께 넘긴다.
+ */
+final class JdbcProxies {
+
+    static <T> T proxy(Class<T> type, T target, TargetHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.handle(target, method, args);
+                }
+        ));
+    }
+
+    /**
+     * 대상 메서드를 호출하고, 대상이 던진 예외(SQLException 등)는 감싸지 않고 그대로 던진다.
+     */
+    static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    interface TargetHandler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private JdbcProxies() {}
+}
@@ -0,0 +1,24 @@
+package com.hyuns.cafit.global.datasource;
+
+/**
+ * 현재 요청을 primary 로 고정할지 여부. 작업 스레드에는 {@link com.hyuns.cafit.global.config.RequestContextExecutor} 가 옮겨 준다.
+ */
+public final class PrimaryPinning {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPinning() {
+    }
+
+    public static void set(boolean pinned) {
+        PINNED.set(pinned);
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,63 @@
+package com.hyuns.cafit.global.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * 변경 요청(POST/PUT/PATCH/DELETE)과, 변경 직후 window 안의 같은 사용자 요청을 primary 로 고정한다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = getUserId(request);
+        boolean isPinned = isMutating(request) || (userId != null && tracker.isWithinWindow(userId));
+        PrimaryPinning.set(isPinned);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex
+    ) {
+        Long userId = getUserId(request);
+        if (isMutating(request) && userId != null) {
+            tracker.markWritten(userId);
+        }
+        PrimaryPinning.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) {
+        PrimaryPinning.clear();
+    }
+
+    private boolean isMutating(HttpServletRequest request) {
+        return !READ_METHODS.contains(request.getMethod());
+    }
+
+    private Long getUserId(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return null;
+        }
+        return (Long) session.getAttribute("userId");
+    }
+}
@@ -0,0 +1,50 @@
+package com.hyuns.cafit.global.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 변경 시각을 기록한다.
+ * 변경 후 window 동안은 그 사용자의 조회를 primary 로 보내 방금 쓴 내용을 읽을 수 있게 한다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<Long, Instant> lastWrites = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration window;
+
+    public ReadYourWritesTracker(Clock clock, Duration window) {
+        this.clock = clock;
+        this.window = window;
+    }
+
+    public void markWritten(Long userId) {
+        lastWrites.put(userId, clock.instant());
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        Instant lastWrite = lastWrites.get(userId);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (isExpired(lastWrite)) {
+            lastWrites.remove(userId, lastWrite);
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${cafit.datasource.replica.read-your-writes-window:5s}")
+    public void purgeExpired() {
+        lastWrites.values().removeIf(this::isExpired);
+    }
+
+    private boolean isExpired(Instant lastWrite) {
+        return lastWrite.plus(window).isBefore(clock.instant());
+    }
+}
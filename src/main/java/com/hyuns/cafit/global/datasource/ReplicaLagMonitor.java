@@ -0,0 +1,73 @@
+package com.hyuns.cafit.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * primary 가 갱신한 replication_heartbeat 값이 replica 에 얼마나 늦게 보이는지로 지연을 잰다.
+ * 지연이 maxLag 를 넘거나 측정에 실패하면 replica 를 쓰지 않는다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String UPDATE_SQL = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String INSERT_SQL = "INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)";
+    private static final String SELECT_SQL = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Clock clock;
+    private final Duration maxLag;
+
+    private volatile boolean isReplicaFresh;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Clock clock, Duration maxLag) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primary);
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.clock = clock;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaFresh() {
+        return isReplicaFresh;
+    }
+
+    @Scheduled(fixedDelayString = "${cafit.datasource.replica.heartbeat-interval:1s}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            beat(now);
+            Duration lag = measureLag(now);
+            isReplicaFresh = lag.compareTo(maxLag) <= 0;
+        } catch (RuntimeException e) {
+            log.warn("replica 지연 측정 실패, primary 로 조회합니다: {}", e.getMessage());
+            isReplicaFresh = false;
+        }
+    }
+
+    private void beat(LocalDateTime now) {
+        Timestamp beatAt = Timestamp.valueOf(now);
+        if (primaryJdbcTemplate.update(UPDATE_SQL, beatAt) == 0) {
+            primaryJdbcTemplate.update(INSERT_SQL, beatAt);
+        }
+    }
+
+    private Duration measureLag(LocalDateTime now) {
+        List<LocalDateTime> beats = replicaJdbcTemplate.query(
+                SELECT_SQL,
+                (rs, rowNum) -> rs.getTimestamp("beat_at").toLocalDateTime()
+        );
+        if (beats.isEmpty()) {
+            return Duration.ofDays(365);
+        }
+        return Duration.between(beats.getFirst(), now);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hyuns.cafit.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 그 외(쓰기, primary 고정 요청, replica 지연 초과)는 primary 로 보낸다.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@RequiredArgsConstructor
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (isReadOnly && !PrimaryPinning.isPinned() && replicaLagMonitor.isReplicaFresh()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,60 @@
+package com.hyuns.cafit.global.datasource;
+
+import com.hyuns.cafit.global.metrics.QueryCounter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Statement 의 execute* 호출마다 현재 {@link QueryCounter} 를 올린다. 집계 중이 아니면 그대로 통과시킨다.
+ * 배치 실행(executeBatch)은 한 번으로 센다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection counting(Connection connection) {
+        return JdbcProxies.proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = JdbcProxies.invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return countingStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return countingStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return countingStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T countingStatement(Class<T> type, T statement) {
+        return JdbcProxies.proxy(type, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                QueryCounter counter = QueryCounter.current();
+                if (counter != null) {
+                    counter.increment();
+                }
+            }
+            return JdbcProxies.invoke(target, method, args);
+        });
+    }
+}
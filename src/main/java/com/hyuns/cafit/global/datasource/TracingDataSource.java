@@ -0,0 +1,167 @@
+package com.hyuns.cafit.global.datasource;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * SQL 문마다 CLIENT 스팬을 만든다. 조회 스팬은 ResultSet 을 닫을 때 읽은 행 수를 남기고 끝낸다.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public static final AttributeKey<String> STATEMENT = AttributeKey.stringKey("db.statement");
+    public static final AttributeKey<Long> RETURNED_ROWS = AttributeKey.longKey("db.response.returned_rows");
+    public static final AttributeKey<Long> AFFECTED_ROWS = AttributeKey.longKey("db.response.affected_rows");
+
+    private final Supplier<Tracer> tracer;
+
+    public TracingDataSource(DataSource targetDataSource, Supplier<Tracer> tracer) {
+        super(targetDataSource);
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return traced(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return traced(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection traced(Connection connection) {
+        return JdbcProxies.proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = JdbcProxies.invoke(target, method, args);
+            String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+            if (result instanceof CallableStatement statement) {
+                return tracedStatement(CallableStatement.class, statement, sql);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return tracedStatement(PreparedStatement.class, statement, sql);
+            }
+            if (result instanceof Statement statement) {
+                return tracedStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    // Statement 는 한 스레드에서만 쓰이므로 열린 조회 스팬 하나만 들고 있으면 된다
+    private <T extends Statement> T tracedStatement(Class<T> type, T statement, String preparedSql) {
+        QuerySpan[] open = new QuerySpan[1];
+        return JdbcProxies.proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.equals("close") || name.startsWith("execute")) {
+                endOpen(open);
+            }
+            if (!name.startsWith("execute")) {
+                return JdbcProxies.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            Span span = startSpan(sql);
+            try {
+                Object result = JdbcProxies.invoke(target, method, args);
+                if (result instanceof ResultSet resultSet) {
+                    open[0] = new QuerySpan(span);
+                    return countingRows(resultSet, open[0]);
+                }
+                tagAffectedRows(span, result);
+                span.end();
+                return result;
+            } catch (Throwable e) {
+                span.recordException(e);
+                span.setStatus(StatusCode.ERROR);
+                span.end();
+                throw e;
+            }
+        });
+    }
+
+    private Span startSpan(String sql) {
+        SpanBuilder builder = tracer.get().spanBuilder(operationOf(sql)).setSpanKind(SpanKind.CLIENT);
+        if (sql != null) {
+            builder.setAttribute(STATEMENT, sql);
+        }
+        return builder.startSpan();
+    }
+
+    private ResultSet countingRows(ResultSet resultSet, QuerySpan querySpan) {
+        return JdbcProxies.proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            if (method.getName().equals("close")) {
+                querySpan.end();
+            }
+            Object result = JdbcProxies.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                querySpan.rows++;
+            }
+            return result;
+        });
+    }
+
+    private static void endOpen(QuerySpan[] open) {
+        if (open[0] != null) {
+            open[0].end();
+            open[0] = null;
+        }
+    }
+
+    private static void tagAffectedRows(Span span, Object result) {
+        if (result instanceof Integer count) {
+            span.setAttribute(AFFECTED_ROWS, count.longValue());
+        } else if (result instanceof Long count) {
+            span.setAttribute(AFFECTED_ROWS, count);
+        } else if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            span.setAttribute(AFFECTED_ROWS, total);
+        }
+    }
+
+    private static String operationOf(String sql) {
+        if (sql == null || sql.isBlank()) {
+            return "jdbc";
+        }
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    private static final class QuerySpan {
+        private final Span span;
+        private long rows;
+        private boolean ended;
+
+        private QuerySpan(Span span) {
+            this.span = span;
+        }
+
+        private void end() {
+            if (!ended) {
+                ended = true;
+                span.setAttribute(RETURNED_ROWS, rows);
+                span.end();
+            }
+        }
+    }
+}
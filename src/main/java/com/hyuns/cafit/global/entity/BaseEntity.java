@@ -16,6 +16,13 @@ public abstract class BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * JPA 밖의 저장소에서 읽은 엔티티를 복원할 때만 사용한다.
+     */
+    protected void restoreId(Long id) {
+        this.id = id;
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) {
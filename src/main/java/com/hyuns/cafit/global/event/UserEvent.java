@@ -0,0 +1,10 @@
+package com.hyuns.cafit.global.event;
+
+/**
+ * 사용자 한 명의 데이터가 바뀌었음을 알리는 도메인 이벤트.
+ * 같은 사용자의 이벤트는 {@link UserEventDispatcher} 에서 발행 순서대로 처리된다.
+ */
+public interface UserEvent {
+
+    Long userId();
+}
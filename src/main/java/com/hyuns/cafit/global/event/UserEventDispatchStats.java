@@ -0,0 +1,21 @@
+package com.hyuns.cafit.global.event;
+
+import java.time.Duration;
+
+/**
+ * @param blocked     큐가 가득 차 커밋 스레드가 기다린 횟수
+ * @param dropped     기다려도 자리가 나지 않아 버린 이벤트 수
+ * @param blockedTime 커밋 스레드가 기다린 시간 합계
+ */
+public record UserEventDispatchStats(
+        long submitted,
+        long completed,
+        long failed,
+        long blocked,
+        long dropped,
+        Duration blockedTime,
+        int queued,
+        int maxLaneDepth,
+        int queueCapacity
+) {
+}
@@ -0,0 +1,168 @@
+package com.hyuns.cafit.global.event;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 {@link UserEvent} 를 userId 별 레인(단일 스레드 + 고정 크기 큐)으로 보내 사용자별 순서를 지킨다.
+ * 큐가 가득 차면 offer-timeout 만큼 기다린 뒤 버리고 센다.
+ */
+@Slf4j
+@Component
+public class UserEventDispatcher implements MeterBinder {
+
+    private final ObjectProvider<UserEventHandler> handlers;
+    private final ThreadPoolExecutor[] lanes;
+    private final int queueCapacity;
+    private final Duration offerTimeout;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+
+    public UserEventDispatcher(
+            ObjectProvider<UserEventHandler> handlers,
+            @Value("${cafit.events.lanes:4}") int laneCount,
+            @Value("${cafit.events.queue-capacity:1024}") int queueCapacity,
+            @Value("${cafit.events.offer-timeout:100ms}") Duration offerTimeout
+    ) {
+        this.handlers = handlers;
+        this.queueCapacity = queueCapacity;
+        this.offerTimeout = offerTimeout;
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = newLane(i);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserEvent event) {
+        List<UserEventHandler> targets = handlers.orderedStream().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        submitted.incrementAndGet();
+        laneOf(event.userId()).execute(() -> deliver(event, targets));
+    }
+
+    public UserEventDispatchStats stats() {
+        int queued = 0;
+        int maxLaneDepth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            int depth = lane.getQueue().size();
+            queued += depth;
+            maxLaneDepth = Math.max(maxLaneDepth, depth);
+        }
+        return new UserEventDispatchStats(
+                submitted.get(),
+                completed.get(),
+                failed.get(),
+                blocked.get(),
+                dropped.get(),
+                Duration.ofNanos(blockedNanos.get()),
+                queued,
+                maxLaneDepth,
+                queueCapacity
+        );
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cafit.events.submitted", submitted, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cafit.events.completed", completed, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cafit.events.failed", failed, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cafit.events.blocked", blocked, AtomicLong::get)
+                .description("큐가 가득 차 커밋 스레드가 기다린 횟수")
+                .register(registry);
+        FunctionCounter.builder("cafit.events.dropped", dropped, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cafit.events.blocked.time", blockedNanos, nanos -> nanos.get() / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("cafit.events.queued", this, dispatcher -> dispatcher.stats().queued()).register(registry);
+        Gauge.builder("cafit.events.lane.max-depth", this, dispatcher -> dispatcher.stats().maxLaneDepth())
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("사용자 이벤트 레인 종료 대기 초과 - 남은 이벤트 {}건", lane.getQueue().size());
+                lane.shutdownNow();
+            }
+        }
+    }
+
+    private void deliver(UserEvent event, List<UserEventHandler> targets) {
+        for (UserEventHandler handler : targets) {
+            try {
+                handler.handle(event);
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.warn("사용자 이벤트 처리 실패 - handler={}, event={}", handler.getClass().getSimpleName(), event, e);
+            }
+        }
+        completed.incrementAndGet();
+    }
+
+    private ThreadPoolExecutor laneOf(Long userId) {
+        return lanes[(int) Math.floorMod(userId, (long) lanes.length)];
+    }
+
+    private ThreadPoolExecutor newLane(int index) {
+        AtomicInteger threads = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-event-" + index + "-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                this::waitForCapacity
+        );
+    }
+
+    // 단일 스레드 레인이라 호출자 실행(CallerRuns)은 순서를 깨므로, 큐에 자리가 날 때까지 잠깐 기다린다.
+    private void waitForCapacity(Runnable task, ThreadPoolExecutor lane) {
+        if (lane.isShutdown()) {
+            dropped.incrementAndGet();
+            return;
+        }
+        blocked.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            if (!lane.getQueue().offer(task, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                dropped.incrementAndGet();
+                log.warn("사용자 이벤트 큐가 가득 차 이벤트를 버립니다 - capacity={}", queueCapacity);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+        } finally {
+            blockedNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.hyuns.cafit.global.event;
+
+/**
+ * 커밋 이후 비동기로 처리할 후속 작업. 쓰기 요청의 응답 시간에 포함되지 않는다.
+ * 같은 사용자의 이벤트는 한 스레드에서 순서대로 전달되지만, 사용자끼리는 동시에 호출될 수 있다.
+ */
+public interface UserEventHandler {
+
+    void handle(UserEvent event);
+}
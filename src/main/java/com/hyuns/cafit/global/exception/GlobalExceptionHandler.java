@@ -88,6 +88,24 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return createResponseEntity(IntakeErrorCode.UNAUTHORIZED_INTAKE_ACCESS);
     }
 
+    @ExceptionHandler(InvalidIntakeCursorException.class)
+    public ResponseEntity<Object> handleInvalidIntakeCursorException(InvalidIntakeCursorException ex) {
+        log.info("InvalidIntakeCursorException : {}", ex.getMessage());
+        return createResponseEntity(IntakeErrorCode.INVALID_INTAKE_CURSOR);
+    }
+
+    @ExceptionHandler(InvalidIntakeFileFormatException.class)
+    public ResponseEntity<Object> handleInvalidIntakeFileFormatException(InvalidIntakeFileFormatException ex) {
+        log.info("InvalidIntakeFileFormatException : {}", ex.getMessage());
+        return createResponseEntity(IntakeErrorCode.INVALID_INTAKE_FILE_FORMAT);
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<Object> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException ex) {
+        log.info("InvalidIdempotencyKeyException : {}", ex.getMessage());
+        return createResponseEntity(IntakeErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+
     // Favorite
     @ExceptionHandler(FavoriteNotFoundException.class)
     public ResponseEntity<Object> handleFavoriteNotFoundException(FavoriteNotFoundException ex) {
@@ -0,0 +1,8 @@
+package com.hyuns.cafit.global.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException() {
+        super("Idempotency-Key 는 1자 이상 64자 이하여야 합니다");
+    }
+}
@@ -0,0 +1,8 @@
+package com.hyuns.cafit.global.exception;
+
+public class InvalidIntakeCursorException extends RuntimeException {
+
+    public InvalidIntakeCursorException() {
+        super("올바르지 않은 페이지 커서입니다");
+    }
+}
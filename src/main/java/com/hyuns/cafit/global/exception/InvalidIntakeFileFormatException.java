@@ -0,0 +1,8 @@
+package com.hyuns.cafit.global.exception;
+
+public class InvalidIntakeFileFormatException extends RuntimeException {
+
+    public InvalidIntakeFileFormatException() {
+        super("지원하지 않는 파일 형식입니다");
+    }
+}
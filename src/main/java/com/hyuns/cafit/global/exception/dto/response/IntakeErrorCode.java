@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 public enum IntakeErrorCode implements ErrorCode {
 
     INTAKE_NOT_FOUND("I00", "섭취 기록을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
-    UNAUTHORIZED_INTAKE_ACCESS("I01", "해당 기록에 대한 권한이 없습니다", HttpStatus.FORBIDDEN);
+    UNAUTHORIZED_INTAKE_ACCESS("I01", "해당 기록에 대한 권한이 없습니다", HttpStatus.FORBIDDEN),
+    INVALID_INTAKE_CURSOR("I02", "올바르지 않은 페이지 커서입니다", HttpStatus.BAD_REQUEST),
+    INVALID_INTAKE_FILE_FORMAT("I03", "지원하지 않는 파일 형식입니다", HttpStatus.BAD_REQUEST),
+    INVALID_IDEMPOTENCY_KEY("I04", "Idempotency-Key 는 1자 이상 64자 이하여야 합니다", HttpStatus.BAD_REQUEST);
 
     private final String errorCode;
     private final String message;
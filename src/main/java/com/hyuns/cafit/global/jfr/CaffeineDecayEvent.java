@@ -0,0 +1,19 @@
+package com.hyuns.cafit.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("cafit.CaffeineDecay")
+@Label("Caffeine Decay")
+@Description("카페인 잔량 계산 한 번")
+@Category({"CaFit", "Calculation"})
+@StackTrace(false)
+public class CaffeineDecayEvent extends Event {
+
+    @Label("Intake Count")
+    public int intakeCount;
+}
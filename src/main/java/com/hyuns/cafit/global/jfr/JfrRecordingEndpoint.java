@@ -0,0 +1,126 @@
+package com.hyuns.cafit.global.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * /actuator/jfr?seconds=N : N초 동안 CaFit 이벤트를 더해 JFR 을 녹화하고 .jfr 파일을 내려준다.
+ * JVM 에서 이미 max-recordings 개 이상 녹화 중이면 429 를 돌려준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cafit.jfr.enabled", havingValue = "true")
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(30);
+
+    private final Duration maxDuration;
+    private final int maxRecordings;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public JfrRecordingEndpoint(
+            @Value("${cafit.jfr.max-duration:5m}") Duration maxDuration,
+            @Value("${cafit.jfr.max-recordings:2}") int maxRecordings
+    ) {
+        this.maxDuration = maxDuration;
+        this.maxRecordings = maxRecordings;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Integer seconds) throws IOException, ParseException {
+        Duration duration = seconds == null ? DEFAULT_DURATION : Duration.ofSeconds(seconds);
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!lock.tryLock()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            if (runningRecordings() >= maxRecordings) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+            }
+            return new WebEndpointResponse<>(new DeleteOnReadResource(record(duration)), WebEndpointResponse.STATUS_OK);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long runningRecordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getState() == RecordingState.RUNNING)
+                .count();
+    }
+
+    private Path record(Duration duration) throws IOException, ParseException {
+        Path file = Files.createTempFile("cafit-", ".jfr");
+        try (Recording recording = new Recording(Configuration.getConfiguration("profile"))) {
+            recording.setName("cafit-" + duration.toSeconds() + "s");
+            recording.enable(CaffeineDecayEvent.class);
+            recording.enable(RepositoryCallEvent.class);
+            recording.enable(LedgerCacheEvent.class);
+            log.info("JFR 녹화 시작 - {}초", duration.toSeconds());
+            recording.start();
+            sleep(duration);
+            recording.stop();
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 응답으로 다 읽고 나면 임시 파일을 지운다.
+     */
+    private static final class DeleteOnReadResource extends FileSystemResource {
+
+        private DeleteOnReadResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
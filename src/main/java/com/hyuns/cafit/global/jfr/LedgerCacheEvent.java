@@ -0,0 +1,22 @@
+package com.hyuns.cafit.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("cafit.LedgerCache")
+@Label("Ledger Cache Lookup")
+@Description("메모리 원장 조회. 적재되지 않아 DB 에서 읽었으면 hit=false 이고 그 시간이 duration 에 포함된다")
+@Category({"CaFit", "Cache"})
+@StackTrace(false)
+public class LedgerCacheEvent extends Event {
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,28 @@
+package com.hyuns.cafit.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("cafit.RepositoryCall")
+@Label("Repository Call")
+@Description("저장소 메서드 호출. rows 는 반환된 행 수(컬렉션 크기, Optional 이면 0 또는 1)")
+@Category({"CaFit", "Persistence"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Exception")
+    public String exception;
+}
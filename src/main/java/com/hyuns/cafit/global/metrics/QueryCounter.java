@@ -0,0 +1,43 @@
+package com.hyuns.cafit.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청(또는 테스트) 하나에서 실행된 SQL 문 수. {@link com.hyuns.cafit.global.datasource.StatementCountingDataSource} 가 센다.
+ */
+public class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong count = new AtomicLong();
+
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static void set(QueryCounter counter) {
+        if (counter == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(counter);
+    }
+
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+}
@@ -0,0 +1,24 @@
+package com.hyuns.cafit.global.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * 엔티티가 로드될 때 read-only 로 로드됐는지(스냅샷 없음) 세어 현재 요청의 {@link ReadOnlySessionStats} 에 더한다.
+ */
+public class ReadOnlyLoadListener implements PostLoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        ReadOnlySessionStats stats = ReadOnlySessionStats.current();
+        if (stats == null) {
+            return;
+        }
+
+        if (event.getSession().isReadOnly(event.getEntity())) {
+            stats.recordReadOnly(event.getPersister().getPropertyTypes().length);
+            return;
+        }
+        stats.recordSnapshot();
+    }
+}
@@ -0,0 +1,46 @@
+package com.hyuns.cafit.global.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전(모든 트랜잭션이 끝난 뒤)에 요청별 read-only 세션 지표와 SQL 문 수를 헤더로 내려준다. 개발용.
+ * SQL 문 수는 cafit.metrics.query-count=true 로 데이터소스를 감쌌을 때만 의미가 있다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "cafit.metrics.response-headers", havingValue = "true")
+public class ReadOnlySessionHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        ReadOnlySessionStats stats = ReadOnlySessionStats.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Read-Only-Entities", String.valueOf(stats.getReadOnlyEntities()));
+            response.getHeaders().set("X-Snapshot-Bytes-Avoided", String.valueOf(stats.getSnapshotBytesAvoided()));
+            response.getHeaders().set("X-Snapshot-Entities", String.valueOf(stats.getSnapshotEntities()));
+        }
+        QueryCounter queryCounter = QueryCounter.current();
+        if (queryCounter != null) {
+            response.getHeaders().set("X-Query-Count", String.valueOf(queryCounter.getCount()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,103 @@
+package com.hyuns.cafit.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청별 read-only 로드 엔티티 수, 스냅샷 엔티티 수, 절약한 스냅샷 바이트를 엔드포인트(method + uri 패턴)별 분포로 남긴다.
+ */
+@Slf4j
+public class ReadOnlySessionMetricsFilter extends OncePerRequestFilter {
+
+    public static final String READ_ONLY_ENTITIES = "cafit.session.read-only.entities";
+    public static final String SNAPSHOT_ENTITIES = "cafit.session.snapshot.entities";
+    public static final String SNAPSHOT_BYTES_AVOIDED = "cafit.session.snapshot.bytes-avoided";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Endpoint, SessionMeters> meters = new ConcurrentHashMap<>();
+
+    public ReadOnlySessionMetricsFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        ReadOnlySessionStats stats = ReadOnlySessionStats.start();
+        // 테스트(@QueryBudget)처럼 바깥에서 이미 세고 있으면 같은 집계에 더한다
+        QueryCounter outer = QueryCounter.current();
+        QueryCounter queryCounter = outer != null ? outer : QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, stats);
+            log.debug("{} {} - SQL {}건, read-only 엔티티 {}건 (스냅샷 {}바이트 절약), 스냅샷 엔티티 {}건",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    queryCounter.getCount(),
+                    stats.getReadOnlyEntities(),
+                    stats.getSnapshotBytesAvoided(),
+                    stats.getSnapshotEntities());
+            ReadOnlySessionStats.clear();
+            if (outer == null) {
+                QueryCounter.clear();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, ReadOnlySessionStats stats) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        SessionMeters sessionMeters = meters.computeIfAbsent(
+                new Endpoint(request.getMethod(), RequestResourceFilter.uriOf(request)),
+                endpoint -> register(registry, endpoint));
+        sessionMeters.readOnlyEntities().record(stats.getReadOnlyEntities());
+        sessionMeters.snapshotEntities().record(stats.getSnapshotEntities());
+        sessionMeters.snapshotBytesAvoided().record(stats.getSnapshotBytesAvoided());
+    }
+
+    private SessionMeters register(MeterRegistry registry, Endpoint endpoint) {
+        return new SessionMeters(
+                DistributionSummary.builder(READ_ONLY_ENTITIES)
+                        .description("요청 하나에서 스냅샷 없이 로드된 엔티티 수")
+                        .tags("method", endpoint.method(), "uri", endpoint.uri())
+                        .register(registry),
+                DistributionSummary.builder(SNAPSHOT_ENTITIES)
+                        .description("요청 하나에서 스냅샷과 함께 로드된 엔티티 수")
+                        .tags("method", endpoint.method(), "uri", endpoint.uri())
+                        .register(registry),
+                DistributionSummary.builder(SNAPSHOT_BYTES_AVOIDED)
+                        .description("read-only 로드로 만들지 않은 스냅샷 바이트 추정치")
+                        .baseUnit(BaseUnits.BYTES)
+                        .tags("method", endpoint.method(), "uri", endpoint.uri())
+                        .register(registry)
+        );
+    }
+
+    private record Endpoint(String method, String uri) {
+    }
+
+    private record SessionMeters(
+            DistributionSummary readOnlyEntities,
+            DistributionSummary snapshotEntities,
+            DistributionSummary snapshotBytesAvoided
+    ) {
+    }
+}
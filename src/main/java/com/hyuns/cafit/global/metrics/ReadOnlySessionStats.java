@@ -0,0 +1,67 @@
+package com.hyuns.cafit.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 하나에서 스냅샷 없이 로드된 엔티티 수와 절약한 바이트 추정치.
+ */
+public class ReadOnlySessionStats {
+
+    private static final ThreadLocal<ReadOnlySessionStats> CURRENT = new ThreadLocal<>();
+
+    // Object[] 헤더 16바이트 + 참조당 4바이트 (compressed oops), 8바이트 정렬
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
+    private final AtomicLong readOnlyEntities = new AtomicLong();
+    private final AtomicLong snapshotEntities = new AtomicLong();
+    private final AtomicLong snapshotBytesAvoided = new AtomicLong();
+
+    public static ReadOnlySessionStats start() {
+        ReadOnlySessionStats stats = new ReadOnlySessionStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void set(ReadOnlySessionStats stats) {
+        if (stats == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(stats);
+    }
+
+    public static ReadOnlySessionStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void recordReadOnly(int propertyCount) {
+        readOnlyEntities.incrementAndGet();
+        snapshotBytesAvoided.addAndGet(estimateSnapshotBytes(propertyCount));
+    }
+
+    public void recordSnapshot() {
+        snapshotEntities.incrementAndGet();
+    }
+
+    public long getReadOnlyEntities() {
+        return readOnlyEntities.get();
+    }
+
+    public long getSnapshotEntities() {
+        return snapshotEntities.get();
+    }
+
+    public long getSnapshotBytesAvoided() {
+        return snapshotBytesAvoided.get();
+    }
+
+    private long estimateSnapshotBytes(int propertyCount) {
+        long bytes = ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * propertyCount;
+        return (bytes + 7) / 8 * 8;
+    }
+}
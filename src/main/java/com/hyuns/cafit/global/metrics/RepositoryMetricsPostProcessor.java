@@ -0,0 +1,29 @@
+package com.hyuns.cafit.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Repository;
+
+/**
+ * infrastructure 패키지의 @Repository 빈에 호출 시간 측정을 붙인다.
+ * Spring Data 가 만든 JpaRepository 는 spring.data.repository.invocations 로 따로 측정된다.
+ */
+public class RepositoryMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private static final String INFRASTRUCTURE_PACKAGE = "com.hyuns.cafit.infrastructure";
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        AnnotationMatchingPointcut repositories = new AnnotationMatchingPointcut(Repository.class, true);
+        this.advisor = new DefaultPointcutAdvisor(repositories, new RepositoryTimingInterceptor(meterRegistry));
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    @Override
+    protected boolean isEligible(Class<?> targetClass) {
+        return targetClass.getPackageName().startsWith(INFRASTRUCTURE_PACKAGE) && super.isEligible(targetClass);
+    }
+}
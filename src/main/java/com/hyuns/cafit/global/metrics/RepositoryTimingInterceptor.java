@@ -0,0 +1,83 @@
+package com.hyuns.cafit.global.metrics;
+
+import com.hyuns.cafit.global.jfr.RepositoryCallEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장소 호출 시간을 cafit.repository.invocations 타이머(repository, method, exception 태그)로 남긴다.
+ */
+public class RepositoryTimingInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "cafit.repository.invocations";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public RepositoryTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        Timer.Sample sample = registry == null ? null : Timer.start(registry);
+        String exception = "none";
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Class<?> repository = ClassUtils.getUserClass(invocation.getThis());
+            if (sample != null) {
+                sample.stop(timerOf(registry, new TimerKey(repository, invocation.getMethod(), exception)));
+            }
+            if (event.shouldCommit()) {
+                event.repository = repository.getSimpleName();
+                event.method = invocation.getMethod().getName();
+                event.rows = rowsOf(result);
+                event.exception = exception;
+                event.commit();
+            }
+        }
+    }
+
+    private Timer timerOf(MeterRegistry registry, TimerKey key) {
+        return timers.computeIfAbsent(key, k -> Timer.builder(METRIC_NAME)
+                .tag("repository", k.repository().getSimpleName())
+                .tag("method", k.method().getName())
+                .tag("exception", k.exception())
+                .register(registry));
+    }
+
+    private static int rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private record TimerKey(Class<?> repository, Method method, String exception) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.hyuns.cafit.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/allocations?limit=N : 누적 할당 바이트가 큰 엔드포인트 순으로 요청당 할당량과 CPU 시간을 보여준다.
+ */
+@Component
+@Endpoint(id = "allocations")
+@ConditionalOnProperty(name = "cafit.metrics.request-resources", havingValue = "true", matchIfMissing = true)
+public class RequestAllocationEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestAllocationEndpoint(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public List<EndpointAllocation> topAllocators(@Nullable Integer limit) {
+        return meterRegistry.find(RequestResourceFilter.ALLOCATED_BYTES).summaries().stream()
+                .filter(summary -> summary.count() > 0)
+                .map(this::toAllocation)
+                .sorted(Comparator.comparingDouble(EndpointAllocation::totalBytes).reversed())
+                .limit(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit)
+                .toList();
+    }
+
+    private EndpointAllocation toAllocation(DistributionSummary summary) {
+        String method = summary.getId().getTag("method");
+        String uri = summary.getId().getTag("uri");
+        Timer cpu = meterRegistry.find(RequestResourceFilter.CPU_TIME)
+                .tag("method", method)
+                .tag("uri", uri)
+                .timer();
+        return new EndpointAllocation(
+                method,
+                uri,
+                summary.count(),
+                summary.totalAmount(),
+                summary.mean(),
+                summary.max(),
+                cpu == null ? 0 : cpu.mean(TimeUnit.MILLISECONDS)
+        );
+    }
+
+    public record EndpointAllocation(
+            String method,
+            String uri,
+            long count,
+            double totalBytes,
+            double meanBytes,
+            double maxBytes,
+            double meanCpuMillis
+    ) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.hyuns.cafit.global.metrics;
+
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 처리 스레드에서 할당한 바이트와 CPU 시간을 엔드포인트별로 남긴다.
+ * 가상 스레드는 JDK 가 -1 을 돌려주므로 기록하지 않는다.
+ */
+public class RequestResourceFilter extends OncePerRequestFilter {
+
+    public static final String ALLOCATED_BYTES = "cafit.request.allocated.bytes";
+    public static final String CPU_TIME = "cafit.request.cpu";
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Endpoint, EndpointMeters> meters = new ConcurrentHashMap<>();
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final boolean supported = threadMXBean.isThreadAllocatedMemorySupported()
+            && threadMXBean.isThreadAllocatedMemoryEnabled()
+            && threadMXBean.isCurrentThreadCpuTimeSupported()
+            && threadMXBean.isThreadCpuTimeEnabled();
+
+    public RequestResourceFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!supported) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Thread thread = Thread.currentThread();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long cpuBefore = threadMXBean.getCurrentThreadCpuTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (allocatedBefore >= 0 && cpuBefore >= 0 && Thread.currentThread() == thread && !request.isAsyncStarted()) {
+                record(
+                        request,
+                        threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore,
+                        threadMXBean.getCurrentThreadCpuTime() - cpuBefore
+                );
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, long allocatedBytes, long cpuNanos) {
+        EndpointMeters endpointMeters = meters.computeIfAbsent(
+                new Endpoint(request.getMethod(), uriOf(request)), this::register);
+        endpointMeters.allocatedBytes().record(allocatedBytes);
+        endpointMeters.cpuTime().record(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private EndpointMeters register(Endpoint endpoint) {
+        return new EndpointMeters(
+                DistributionSummary.builder(ALLOCATED_BYTES)
+                        .description("요청 처리 스레드가 할당한 바이트")
+                        .baseUnit(BaseUnits.BYTES)
+                        .tags("method", endpoint.method(), "uri", endpoint.uri())
+                        .register(meterRegistry),
+                Timer.builder(CPU_TIME)
+                        .description("요청 처리 스레드의 CPU 시간")
+                        .tags("method", endpoint.method(), "uri", endpoint.uri())
+                        .register(meterRegistry)
+        );
+    }
+
+    // 패턴이 없으면(로그인 필터에서 끊긴 요청 등) 태그 수가 늘지 않도록 하나로 묶는다
+    static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN : pattern.toString();
+    }
+
+    private record Endpoint(String method, String uri) {
+    }
+
+    private record EndpointMeters(DistributionSummary allocatedBytes, Timer cpuTime) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.hyuns.cafit.global.outbox;
+
+/**
+ * 노드 로컬에 들고 있는 사용자별 캐시. 다른 노드에서 그 사용자의 데이터가 바뀌면 {@link OutboxPoller} 가 호출한다.
+ */
+public interface LocalCacheInvalidator {
+
+    void invalidate(Long userId);
+}
@@ -0,0 +1,58 @@
+package com.hyuns.cafit.global.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * AUTO_INCREMENT id 는 커밋 순서와 다를 수 있어 highWater 아래의 빈 번호(gap)를 기억해 두고 다시 읽는다.
+ * 롤백된 번호는 영영 채워지지 않으므로 gapTimeout 이 지나면 잊는다.
+ */
+class OutboxCursor {
+
+    // id 가 크게 건너뛰는 경우에도 메모리가 묶이지 않도록 오래된 빈 번호부터 버린다
+    private static final int MAX_GAPS = 10_000;
+
+    private final long gapTimeoutNanos;
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+    private long highWater;
+
+    OutboxCursor(long highWater, Duration gapTimeout) {
+        this.highWater = highWater;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+    }
+
+    long highWater() {
+        return highWater;
+    }
+
+    int pending() {
+        return gaps.size();
+    }
+
+    List<Long> gaps() {
+        return List.copyOf(gaps.keySet());
+    }
+
+    /**
+     * 처음 보는 id 면 true. highWater 를 넘는 id 면 그 사이의 번호를 빈 번호로 기억한다.
+     */
+    boolean accept(long id, long nowNanos) {
+        if (id > highWater) {
+            for (long missing = highWater + 1; missing < id; missing++) {
+                gaps.put(missing, nowNanos);
+            }
+            highWater = id;
+            while (gaps.size() > MAX_GAPS) {
+                gaps.pollFirstEntry();
+            }
+            return true;
+        }
+        return gaps.remove(id) != null;
+    }
+
+    void expire(long nowNanos) {
+        gaps.values().removeIf(observedAt -> nowNanos - observedAt >= gapTimeoutNanos);
+    }
+}
@@ -0,0 +1,24 @@
+package com.hyuns.cafit.global.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 이 애플리케이션 인스턴스의 식별자. 자기 노드가 쓴 outbox 행은 이미 반영했으므로 poller 가 건너뛴다.
+ * 지정하지 않으면 기동할 때마다 새로 만든다.
+ */
+@Component
+public class OutboxNode {
+
+    private final String id;
+
+    public OutboxNode(@Value("${cafit.outbox.node-id:}") String id) {
+        this.id = id.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,112 @@
+package com.hyuns.cafit.global.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * outbox 를 id 순서로 읽어 다른 노드가 바꾼 사용자의 로컬 캐시를 무효화한다. 기동 이전의 행은 읽지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cafit.outbox.enabled", havingValue = "true")
+public class OutboxPoller {
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM outbox";
+    private static final String SELECT_SQL =
+            "SELECT id, node_id, user_id FROM outbox WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_GAPS_SQL = "SELECT id, node_id, user_id FROM outbox WHERE id IN (%s)";
+    private static final String PURGE_SQL = "DELETE FROM outbox WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxNode node;
+    private final List<LocalCacheInvalidator> invalidators;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private OutboxCursor cursor;
+
+    public OutboxPoller(
+            JdbcTemplate jdbcTemplate,
+            OutboxNode node,
+            List<LocalCacheInvalidator> invalidators,
+            Clock clock,
+            @Value("${cafit.outbox.batch-size:500}") int batchSize,
+            @Value("${cafit.outbox.gap-timeout:1m}") Duration gapTimeout,
+            @Value("${cafit.outbox.retention:1d}") Duration retention
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.node = node;
+        this.invalidators = invalidators;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${cafit.outbox.poll-interval:1s}")
+    public void poll() {
+        lock.lock();
+        try {
+            if (cursor == null) {
+                cursor = new OutboxCursor(jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class), gapTimeout);
+                return;
+            }
+
+            long now = System.nanoTime();
+            Set<Long> changedUsers = new LinkedHashSet<>();
+            RowCallbackHandler collect = rs -> {
+                if (cursor.accept(rs.getLong("id"), now) && !node.getId().equals(rs.getString("node_id"))) {
+                    changedUsers.add(rs.getLong("user_id"));
+                }
+            };
+
+            List<Long> gaps = cursor.gaps();
+            for (int from = 0; from < gaps.size(); from += batchSize) {
+                List<Long> batch = gaps.subList(from, Math.min(from + batchSize, gaps.size()));
+                String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+                jdbcTemplate.query(SELECT_GAPS_SQL.formatted(placeholders), collect, batch.toArray());
+            }
+            jdbcTemplate.query(SELECT_SQL, collect, cursor.highWater(), batchSize);
+            cursor.expire(now);
+
+            for (Long userId : changedUsers) {
+                invalidators.forEach(invalidator -> invalidator.invalidate(userId));
+            }
+            if (!changedUsers.isEmpty()) {
+                log.debug("outbox 반영 - 사용자 {}명 무효화, highWater={}, 빈 번호 {}건",
+                        changedUsers.size(), cursor.highWater(), cursor.pending());
+            }
+        } catch (RuntimeException e) {
+            log.warn("outbox 조회 실패: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${cafit.outbox.purge-cron:0 15 * * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        int deleted = jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(cutoff));
+        if (deleted > 0) {
+            log.info("outbox {}건 삭제 (기준 {})", deleted, cutoff);
+        }
+    }
+}
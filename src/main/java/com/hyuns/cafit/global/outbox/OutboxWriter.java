@@ -0,0 +1,39 @@
+package com.hyuns.cafit.global.outbox;
+
+import com.hyuns.cafit.global.event.UserEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 데이터 변경 이벤트를 변경과 같은 트랜잭션에서 outbox 테이블에 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cafit.outbox.enabled", havingValue = "true")
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox (node_id, user_id, event_type, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxNode node;
+    private final Clock clock;
+
+    @EventListener
+    public void on(UserEvent event) {
+        jdbcTemplate.update(
+                INSERT_SQL,
+                node.getId(),
+                event.userId(),
+                event.getClass().getSimpleName(),
+                Timestamp.valueOf(LocalDateTime.now(clock))
+        );
+    }
+}
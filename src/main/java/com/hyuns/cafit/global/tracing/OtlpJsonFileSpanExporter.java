@@ -0,0 +1,152 @@
+package com.hyuns.cafit.global.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 내보내기 한 번을 OTLP/JSON ExportTraceServiceRequest 한 줄로 파일에 덧붙인다. (OTLP File Exporter 형식)
+ * 64비트 정수는 protobuf JSON 매핑대로 문자열로 쓴다.
+ */
+@Slf4j
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    private final Path file;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public OtlpJsonFileSpanExporter(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (spans.isEmpty()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        lock.lock();
+        try {
+            String line = objectMapper.writeValueAsString(Map.of("resourceSpans", resourceSpans(spans)));
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, line + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("스팬 파일 쓰기 실패 - {}", file, e);
+            return CompletableResultCode.ofFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private List<Map<String, Object>> resourceSpans(Collection<SpanData> spans) {
+        Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> grouped = spans.stream()
+                .collect(Collectors.groupingBy(
+                        SpanData::getResource,
+                        LinkedHashMap::new,
+                        Collectors.groupingBy(SpanData::getInstrumentationScopeInfo, LinkedHashMap::new, Collectors.toList())
+                ));
+
+        List<Map<String, Object>> resourceSpans = new ArrayList<>();
+        grouped.forEach((resource, byScope) -> {
+            List<Map<String, Object>> scopeSpans = new ArrayList<>();
+            byScope.forEach((scope, scopeData) -> scopeSpans.add(Map.of(
+                    "scope", scopeOf(scope),
+                    "spans", scopeData.stream().map(OtlpJsonFileSpanExporter::spanOf).toList()
+            )));
+            resourceSpans.add(Map.of(
+                    "resource", Map.of("attributes", attributesOf(resource.getAttributes())),
+                    "scopeSpans", scopeSpans
+            ));
+        });
+        return resourceSpans;
+    }
+
+    private static Map<String, Object> scopeOf(InstrumentationScopeInfo scope) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", scope.getName());
+        if (scope.getVersion() != null) {
+            json.put("version", scope.getVersion());
+        }
+        return json;
+    }
+
+    // kind / status 코드는 OTLP 열거값(UNSPECIFIED = 0) 기준
+    private static Map<String, Object> spanOf(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().ordinal() + 1);
+        json.put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()));
+        json.put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+        json.put("attributes", attributesOf(span.getAttributes()));
+        json.put("events", span.getEvents().stream().map(OtlpJsonFileSpanExporter::eventOf).toList());
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("code", span.getStatus().getStatusCode().ordinal());
+        if (!span.getStatus().getDescription().isEmpty()) {
+            status.put("message", span.getStatus().getDescription());
+        }
+        json.put("status", status);
+        return json;
+    }
+
+    private static Map<String, Object> eventOf(EventData event) {
+        return Map.of(
+                "timeUnixNano", String.valueOf(event.getEpochNanos()),
+                "name", event.getName(),
+                "attributes", attributesOf(event.getAttributes())
+        );
+    }
+
+    private static List<Map<String, Object>> attributesOf(Attributes attributes) {
+        List<Map<String, Object>> json = new ArrayList<>();
+        attributes.forEach((key, value) -> json.add(Map.of("key", key.getKey(), "value", valueOf(value))));
+        return json;
+    }
+
+    private static Map<String, Object> valueOf(Object value) {
+        return switch (value) {
+            case Boolean bool -> Map.of("boolValue", bool);
+            case Long number -> Map.of("intValue", String.valueOf(number));
+            case Double number -> Map.of("doubleValue", number);
+            case List<?> values -> Map.of("arrayValue", Map.of("values", values.stream().map(OtlpJsonFileSpanExporter::valueOf).toList()));
+            default -> Map.of("stringValue", String.valueOf(value));
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.hyuns.cafit.global.tracing;
+
+import com.hyuns.cafit.domain.user.User;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 메서드 호출 하나를 "클래스.메서드" 스팬으로 감싸고 계층, 사용자 id, 인자/반환 건수를 속성으로 남긴다.
+ */
+public class TracingInterceptor implements MethodInterceptor {
+
+    public static final AttributeKey<String> LAYER = AttributeKey.stringKey("cafit.layer");
+    public static final AttributeKey<Long> USER_ID = AttributeKey.longKey("cafit.user.id");
+    public static final AttributeKey<Long> ARGUMENTS_SIZE = AttributeKey.longKey("cafit.arguments.size");
+    public static final AttributeKey<Long> ROWS = AttributeKey.longKey("cafit.rows");
+    public static final AttributeKey<Long> INTAKE_COUNT = AttributeKey.longKey("cafit.intake.count");
+
+    private static final AttributeKey<String> CODE_NAMESPACE = AttributeKey.stringKey("code.namespace");
+    private static final AttributeKey<String> CODE_FUNCTION = AttributeKey.stringKey("code.function");
+
+    private final Supplier<Tracer> tracer;
+
+    public TracingInterceptor(Supplier<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> type = ClassUtils.getUserClass(invocation.getThis());
+        Method method = invocation.getMethod();
+        Span span = tracer.get().spanBuilder(type.getSimpleName() + "." + method.getName())
+                .setAttribute(LAYER, layerOf(type))
+                .setAttribute(CODE_NAMESPACE, type.getName())
+                .setAttribute(CODE_FUNCTION, method.getName())
+                .startSpan();
+        tagArguments(span, method.getParameters(), invocation.getArguments());
+
+        try (Scope ignored = span.makeCurrent()) {
+            Object result = invocation.proceed();
+            tagResult(span, result);
+            return result;
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String layerOf(Class<?> type) {
+        String packageName = type.getPackageName();
+        if (packageName.contains(".presentation")) {
+            return "controller";
+        }
+        if (packageName.contains(".application")) {
+            return "service";
+        }
+        return "repository";
+    }
+
+    private static void tagArguments(Span span, Parameter[] parameters, Object[] arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            if (argument instanceof User user && user.getId() != null) {
+                span.setAttribute(USER_ID, user.getId());
+            } else if (argument instanceof Long id && "userId".equals(parameters[i].getName())) {
+                span.setAttribute(USER_ID, id);
+            } else if (argument instanceof Collection<?> collection) {
+                span.setAttribute(ARGUMENTS_SIZE, (long) collection.size());
+            }
+        }
+    }
+
+    private static void tagResult(Span span, Object result) {
+        if (result instanceof Collection<?> collection) {
+            span.setAttribute(ROWS, (long) collection.size());
+        } else if (result instanceof Optional<?> optional) {
+            span.setAttribute(ROWS, optional.isPresent() ? 1L : 0L);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.hyuns.cafit.global.tracing;
+
+import io.opentelemetry.api.trace.Tracer;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.function.Supplier;
+
+/**
+ * presentation 의 @RestController, application 의 @Service, infrastructure 의 @Repository 빈에 {@link TracingInterceptor} 를 붙인다.
+ * 이미 트랜잭션/메트릭 프록시가 있으면 그 프록시에 어드바이저를 더한다.
+ */
+public class TracingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private static final String BASE_PACKAGE = "com.hyuns.cafit.";
+
+    public TracingPostProcessor(Supplier<Tracer> tracer) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(RestController.class, true))
+                .union(new AnnotationMatchingPointcut(Service.class, true))
+                .union(new AnnotationMatchingPointcut(Repository.class, true));
+        this.advisor = new DefaultPointcutAdvisor(pointcut, new TracingInterceptor(tracer));
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    @Override
+    protected boolean isEligible(Class<?> targetClass) {
+        String packageName = targetClass.getPackageName();
+        boolean traced = packageName.startsWith(BASE_PACKAGE + "presentation")
+                || packageName.startsWith(BASE_PACKAGE + "application")
+                || packageName.startsWith(BASE_PACKAGE + "infrastructure");
+        return traced && super.isEligible(targetClass);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.hyuns.cafit.domain.beverage.QCustomBeverage.customBeverage;
 import static com.hyuns.cafit.domain.beverage.QPresetBeverage.presetBeverage;
@@ -28,6 +29,17 @@ public class FavoriteBeverageQueryRepository {
                 .fetch();
     }
 
+    public Optional<FavoriteBeverage> findByIdWithBeverage(Long id) {
+        FavoriteBeverage favorite = queryFactory
+                .selectFrom(favoriteBeverage)
+                .leftJoin(favoriteBeverage.presetBeverage, presetBeverage).fetchJoin()
+                .leftJoin(favoriteBeverage.customBeverage, customBeverage).fetchJoin()
+                .where(favoriteBeverage.id.eq(id))
+                .fetchOne();
+
+        return Optional.ofNullable(favorite);
+    }
+
     public int findMaxOrderByUser(User user) {
         Integer maxOrder = queryFactory
                 .select(favoriteBeverage.displayOrder.max())
@@ -23,6 +23,11 @@ public class FavoriteBeverageRepositoryAdapter implements FavoriteBeverageReposi
         return favoriteBeverageJpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<FavoriteBeverage> findByIdWithBeverage(Long id) {
+        return favoriteBeverageQueryRepository.findByIdWithBeverage(id);
+    }
+
     @Override
     public List<FavoriteBeverage> findByUserWithBeverages(User user) {
         return favoriteBeverageQueryRepository.findByUserWithBeverages(user);
@@ -0,0 +1,327 @@
+package com.hyuns.cafit.infrastructure.intake.archive;
+
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.domain.beverage.BeverageCategory;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 한 사용자의 한 달치 섭취 기록을 담는 컬럼형 파일. 압축 해제 없이 메모리 매핑한 버퍼를 그대로 읽는다.
+ *
+ * <pre>
+ * int    magic ("CIA1")
+ * int    rowCount
+ * long   baseMillis                  첫 기록의 consumedAt (epoch millis, UTC 기준 인코딩)
+ * double caffeineMg[rowCount]        고정 폭이라 합계 계산 시 바로 읽는다
+ * varint consumedAtDelta[rowCount]   직전 기록과의 차이 (정렬되어 있어 항상 0 이상)
+ * varint idDelta[rowCount]           직전 id 와의 차이 (zigzag)
+ * varint beverageIndex[rowCount]     음료 사전 위치
+ * varint dictionarySize, 음료 사전 (이름, 브랜드, 카테고리, 용량, 출처, 원본 id)
+ * </pre>
+ */
+final class IntakeArchiveSegment {
+
+    private static final int MAGIC = 0x43494131;
+
+    private final long[] consumedAtMillis;
+    private final long[] ids;
+    private final double[] caffeineMg;
+    private final int[] beverageIndexes;
+    private final List<ArchivedBeverage> dictionary;
+
+    private IntakeArchiveSegment(
+            long[] consumedAtMillis,
+            long[] ids,
+            double[] caffeineMg,
+            int[] beverageIndexes,
+            List<ArchivedBeverage> dictionary
+    ) {
+        this.consumedAtMillis = consumedAtMillis;
+        this.ids = ids;
+        this.caffeineMg = caffeineMg;
+        this.beverageIndexes = beverageIndexes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * rows 는 (consumedAt, id) 순으로 정렬되어 있어야 한다. 임시 파일에 쓴 뒤 원자적으로 교체한다.
+     */
+    static void write(Path path, List<IntakeHistoryRow> rows) {
+        try {
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temp, encode(rows));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static IntakeArchiveSegment read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 앞쪽의 카페인과 시각 컬럼만 읽는다. id, 음료 인덱스, 사전은 건드리지 않는다.
+     */
+    static void readAmounts(Path path, AmountConsumer consumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalStateException("섭취 아카이브 파일 형식이 아닙니다");
+            }
+            int rowCount = buffer.getInt();
+            long millis = buffer.getLong();
+
+            int consumedAtOffset = buffer.position() + rowCount * Double.BYTES;
+            ByteBuffer amounts = buffer.duplicate();
+            buffer.position(consumedAtOffset);
+            for (int i = 0; i < rowCount; i++) {
+                millis += readVarLong(buffer);
+                consumer.accept(toLocalDateTime(millis), amounts.getDouble());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    LocalDateTime consumedAt(int index) {
+        return toLocalDateTime(consumedAtMillis[index]);
+    }
+
+    void forEach(Consumer<IntakeHistoryRow> consumer) {
+        for (int i = 0; i < size(); i++) {
+            consumer.accept(row(i));
+        }
+    }
+
+    IntakeHistoryRow row(int index) {
+        ArchivedBeverage beverage = dictionary.get(beverageIndexes[index]);
+        return new IntakeHistoryRow(
+                ids[index],
+                beverage.name(),
+                beverage.brandName(),
+                beverage.category(),
+                beverage.volumeMl(),
+                caffeineMg[index],
+                consumedAt(index),
+                beverage.sourceType(),
+                beverage.sourceBeverageId()
+        );
+    }
+
+    private static byte[] encode(List<IntakeHistoryRow> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        long baseMillis = rows.isEmpty() ? 0 : toMillis(rows.getFirst().consumedAt());
+        out.writeInt(MAGIC);
+        out.writeInt(rows.size());
+        out.writeLong(baseMillis);
+
+        for (IntakeHistoryRow row : rows) {
+            out.writeDouble(row.caffeineMg());
+        }
+
+        long previousMillis = baseMillis;
+        for (IntakeHistoryRow row : rows) {
+            long millis = toMillis(row.consumedAt());
+            writeVarLong(out, millis - previousMillis);
+            previousMillis = millis;
+        }
+
+        long previousId = 0;
+        for (IntakeHistoryRow row : rows) {
+            writeVarLong(out, zigzag(row.id() - previousId));
+            previousId = row.id();
+        }
+
+        Map<ArchivedBeverage, Integer> dictionary = new HashMap<>();
+        List<ArchivedBeverage> entries = new ArrayList<>();
+        for (IntakeHistoryRow row : rows) {
+            ArchivedBeverage beverage = ArchivedBeverage.from(row);
+            Integer index = dictionary.computeIfAbsent(beverage, key -> {
+                entries.add(key);
+                return entries.size() - 1;
+            });
+            writeVarLong(out, index);
+        }
+
+        writeVarLong(out, entries.size());
+        for (ArchivedBeverage beverage : entries) {
+            writeString(out, beverage.name());
+            writeString(out, beverage.brandName());
+            writeString(out, beverage.category().name());
+            writeVarLong(out, beverage.volumeMl());
+            writeString(out, beverage.sourceType() == null ? null : beverage.sourceType().name());
+            writeVarLong(out, beverage.sourceBeverageId() == null ? 0 : beverage.sourceBeverageId() + 1);
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static IntakeArchiveSegment decode(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("섭취 아카이브 파일 형식이 아닙니다");
+        }
+        int rowCount = buffer.getInt();
+        long baseMillis = buffer.getLong();
+
+        double[] caffeineMg = new double[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            caffeineMg[i] = buffer.getDouble();
+        }
+
+        long[] consumedAtMillis = new long[rowCount];
+        long millis = baseMillis;
+        for (int i = 0; i < rowCount; i++) {
+            millis += readVarLong(buffer);
+            consumedAtMillis[i] = millis;
+        }
+
+        long[] ids = new long[rowCount];
+        long id = 0;
+        for (int i = 0; i < rowCount; i++) {
+            id += unzigzag(readVarLong(buffer));
+            ids[i] = id;
+        }
+
+        int[] beverageIndexes = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            beverageIndexes[i] = (int) readVarLong(buffer);
+        }
+
+        int dictionarySize = (int) readVarLong(buffer);
+        List<ArchivedBeverage> dictionary = new ArrayList<>(dictionarySize);
+        for (int i = 0; i < dictionarySize; i++) {
+            String name = readString(buffer);
+            String brandName = readString(buffer);
+            BeverageCategory category = BeverageCategory.valueOf(readString(buffer));
+            int volumeMl = (int) readVarLong(buffer);
+            String sourceType = readString(buffer);
+            long sourceBeverageId = readVarLong(buffer);
+            dictionary.add(new ArchivedBeverage(
+                    name,
+                    brandName,
+                    category,
+                    volumeMl,
+                    sourceType == null ? null : BeverageType.valueOf(sourceType),
+                    sourceBeverageId == 0 ? null : sourceBeverageId - 1
+            ));
+        }
+
+        return new IntakeArchiveSegment(consumedAtMillis, ids, caffeineMg, beverageIndexes, dictionary);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(millis, 1000),
+                (int) Math.floorMod(millis, 1000) * 1_000_000,
+                ZoneOffset.UTC
+        );
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    // 길이 + 1 을 먼저 쓴다 (0 은 null)
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, encoded.length + 1L);
+        out.write(encoded);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = (int) readVarLong(buffer);
+        if (length == 0) {
+            return null;
+        }
+        byte[] encoded = new byte[length - 1];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    interface AmountConsumer {
+        void accept(LocalDateTime consumedAt, double caffeineMg);
+    }
+
+    private record ArchivedBeverage(
+            String name,
+            String brandName,
+            BeverageCategory category,
+            int volumeMl,
+            BeverageType sourceType,
+            Long sourceBeverageId
+    ) {
+        static ArchivedBeverage from(IntakeHistoryRow row) {
+            return new ArchivedBeverage(
+                    row.beverageName(),
+                    row.brandName(),
+                    row.category(),
+                    row.volumeMl(),
+                    row.sourceType(),
+                    row.sourceBeverageId()
+            );
+        }
+    }
+}
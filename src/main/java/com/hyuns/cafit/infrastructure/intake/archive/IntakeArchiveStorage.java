@@ -0,0 +1,138 @@
+package com.hyuns.cafit.infrastructure.intake.archive;
+
+import com.hyuns.cafit.application.intake.dto.IntakeDailyTotal;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 오래된 섭취 기록을 {dir}/{userId}/{yyyyMM}.cia 파일로 보관한다.
+ * 파일은 월 단위로 통째로 다시 쓰고(임시 파일 후 원자적 교체), 읽을 때는 메모리 매핑한다.
+ */
+@Component
+public class IntakeArchiveStorage {
+
+    private static final String EXTENSION = ".cia";
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Comparator<IntakeHistoryRow> ORDER =
+            Comparator.comparing(IntakeHistoryRow::consumedAt).thenComparing(IntakeHistoryRow::id);
+
+    private final Path baseDirectory;
+
+    public IntakeArchiveStorage(@Value("${cafit.intake.archive.dir:data/intake-archive}") String baseDirectory) {
+        this.baseDirectory = Path.of(baseDirectory);
+    }
+
+    /**
+     * 같은 달의 기존 파일과 합쳐 다시 쓴다. 이미 보관된 id 는 덮어쓰므로 재실행해도 중복되지 않는다.
+     */
+    public void archive(Long userId, YearMonth month, List<IntakeHistoryRow> rows) {
+        Path path = pathOf(userId, month);
+        Map<Long, IntakeHistoryRow> merged = new LinkedHashMap<>();
+        if (Files.exists(path)) {
+            IntakeArchiveSegment.read(path).forEach(row -> merged.put(row.id(), row));
+        }
+        rows.forEach(row -> merged.put(row.id(), row));
+
+        List<IntakeHistoryRow> sorted = new ArrayList<>(merged.values());
+        sorted.sort(ORDER);
+
+        try {
+            Files.createDirectories(path.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        IntakeArchiveSegment.write(path, sorted);
+    }
+
+    /**
+     * 보관된 전체 기록을 오래된 순으로 전달한다.
+     */
+    public void forEach(Long userId, Consumer<IntakeHistoryRow> consumer) {
+        archivedMonths(userId).forEach(month -> IntakeArchiveSegment.read(pathOf(userId, month)).forEach(consumer));
+    }
+
+    public void forEachBetween(Long userId, LocalDateTime start, LocalDateTime end, Consumer<IntakeHistoryRow> consumer) {
+        for (YearMonth month : monthsBetween(userId, start.toLocalDate(), end.toLocalDate())) {
+            IntakeArchiveSegment segment = IntakeArchiveSegment.read(pathOf(userId, month));
+            for (int i = 0; i < segment.size(); i++) {
+                LocalDateTime consumedAt = segment.consumedAt(i);
+                if (!consumedAt.isBefore(start) && !consumedAt.isAfter(end)) {
+                    consumer.accept(segment.row(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * id, 음료 사전은 풀지 않고 시각과 카페인 컬럼만 읽어 일별 합계를 만든다.
+     */
+    public Map<LocalDate, IntakeDailyTotal> dailyTotals(Long userId, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.atTime(LocalTime.MAX);
+        Map<LocalDate, double[]> sums = new TreeMap<>();
+
+        for (YearMonth month : monthsBetween(userId, startDate, endDate)) {
+            IntakeArchiveSegment.readAmounts(pathOf(userId, month), (consumedAt, caffeineMg) -> {
+                if (consumedAt.isBefore(start) || consumedAt.isAfter(end)) {
+                    return;
+                }
+                double[] sum = sums.computeIfAbsent(consumedAt.toLocalDate(), date -> new double[2]);
+                sum[0] += caffeineMg;
+                sum[1]++;
+            });
+        }
+
+        Map<LocalDate, IntakeDailyTotal> totals = new TreeMap<>();
+        sums.forEach((date, sum) -> totals.put(date, new IntakeDailyTotal(date, sum[0], (int) sum[1])));
+        return totals;
+    }
+
+    private List<YearMonth> monthsBetween(Long userId, LocalDate startDate, LocalDate endDate) {
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth last = YearMonth.from(endDate);
+        return archivedMonths(userId).stream()
+                .filter(month -> !month.isBefore(first) && !month.isAfter(last))
+                .toList();
+    }
+
+    private List<YearMonth> archivedMonths(Long userId) {
+        Path directory = baseDirectory.resolve(String.valueOf(userId));
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(EXTENSION))
+                    .map(name -> YearMonth.parse(name.substring(0, name.length() - EXTENSION.length()), FILE_NAME_FORMAT))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pathOf(Long userId, YearMonth month) {
+        return baseDirectory.resolve(String.valueOf(userId)).resolve(month.format(FILE_NAME_FORMAT) + EXTENSION);
+    }
+}
@@ -0,0 +1,166 @@
+package com.hyuns.cafit.infrastructure.intake.persistence;
+
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.domain.beverage.BeverageCategory;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.domain.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * IDENTITY 전략에서는 Hibernate 배치가 꺼지므로 대량 저장은 JDBC 배치로 한다. (MySQL: rewriteBatchedStatements=true)
+ * 전체 이력 조회는 forward-only 커서로 흘려보낸다. (MySQL: useCursorFetch=true)
+ */
+@Repository
+public class CaffeineIntakeJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO caffeine_intakes
+                (user_id, beverage_name, brand_name, category, volume_ml, caffeine_mg,
+                 consumed_at, source_type, source_beverage_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_BY_USER_SQL = """
+            SELECT id, beverage_name, brand_name, category, volume_ml, caffeine_mg,
+                   consumed_at, source_type, source_beverage_id
+            FROM caffeine_intakes
+            WHERE user_id = ?
+            ORDER BY consumed_at, id
+            """;
+
+    private static final String SELECT_BY_USER_BEFORE_SQL = """
+            SELECT id, beverage_name, brand_name, category, volume_ml, caffeine_mg,
+                   consumed_at, source_type, source_beverage_id
+            FROM caffeine_intakes
+            WHERE user_id = ? AND consumed_at < ?
+            ORDER BY consumed_at, id
+            """;
+
+    private static final String SELECT_USER_IDS_BEFORE_SQL = """
+            SELECT DISTINCT user_id
+            FROM caffeine_intakes
+            WHERE consumed_at < ?
+            """;
+
+    private static final String DELETE_BY_IDS_SQL = """
+            DELETE FROM caffeine_intakes
+            WHERE user_id = ? AND id IN (%s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final int deleteBatchSize;
+
+    public CaffeineIntakeJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${cafit.intake.export.fetch-size:1000}") int fetchSize,
+            @Value("${cafit.intake.archive.delete-batch-size:500}") int deleteBatchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    // 나누는 크기는 호출하는 쪽(가져오기의 batch-size)이 정하고, 받은 목록은 한 번의 배치로 보낸다
+    public void batchInsert(List<CaffeineIntake> intakes) {
+        if (intakes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, intakes, intakes.size(), (ps, intake) -> {
+            ps.setLong(1, intake.getUser().getId());
+            ps.setString(2, intake.getBeverageName());
+            if (intake.getBrandName() == null) {
+                ps.setNull(3, Types.VARCHAR);
+            } else {
+                ps.setString(3, intake.getBrandName());
+            }
+            ps.setString(4, intake.getCategory().name());
+            ps.setInt(5, intake.getVolumeMl());
+            ps.setDouble(6, intake.getCaffeineMg());
+            ps.setTimestamp(7, Timestamp.valueOf(intake.getConsumedAt()));
+            ps.setString(8, intake.getSourceType().name());
+            ps.setLong(9, intake.getSourceBeverageId());
+        });
+    }
+
+    public void streamByUser(User user, Consumer<IntakeHistoryRow> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            SELECT_BY_USER_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(fetchSize);
+                    ps.setLong(1, user.getId());
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(toHistoryRow(rs))
+        );
+    }
+
+    public void streamByUserBefore(Long userId, LocalDateTime cutoff, Consumer<IntakeHistoryRow> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            SELECT_BY_USER_BEFORE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(fetchSize);
+                    ps.setLong(1, userId);
+                    ps.setTimestamp(2, Timestamp.valueOf(cutoff));
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(toHistoryRow(rs))
+        );
+    }
+
+    public List<Long> findUserIdsWithIntakesBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.queryForList(SELECT_USER_IDS_BEFORE_SQL, Long.class, Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * 아카이브한 id 만 deleteBatchSize 개씩 지운다. 아카이브 도중 커밋된 기록은 id 와 무관하게 남아 다음 실행에서 처리된다.
+     * 배치마다 커밋되므로 한 번에 긴 잠금을 잡지 않는다.
+     */
+    public int deleteByIds(Long userId, List<Long> ids) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += deleteBatchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + deleteBatchSize, ids.size()));
+            Object[] args = new Object[batch.size() + 1];
+            args[0] = userId;
+            for (int i = 0; i < batch.size(); i++) {
+                args[i + 1] = batch.get(i);
+            }
+            String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+            deleted += jdbcTemplate.update(DELETE_BY_IDS_SQL.formatted(placeholders), args);
+        }
+        return deleted;
+    }
+
+    private IntakeHistoryRow toHistoryRow(ResultSet rs) throws SQLException {
+        String sourceType = rs.getString("source_type");
+        return new IntakeHistoryRow(
+                rs.getLong("id"),
+                rs.getString("beverage_name"),
+                rs.getString("brand_name"),
+                BeverageCategory.valueOf(rs.getString("category")),
+                rs.getInt("volume_ml"),
+                rs.getDouble("caffeine_mg"),
+                rs.getObject("consumed_at", LocalDateTime.class),
+                sourceType == null ? null : BeverageType.valueOf(sourceType),
+                rs.getObject("source_beverage_id", Long.class)
+        );
+    }
+}
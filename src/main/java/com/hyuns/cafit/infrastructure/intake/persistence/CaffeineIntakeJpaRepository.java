@@ -2,13 +2,21 @@ package com.hyuns.cafit.infrastructure.intake.persistence;
 
 import com.hyuns.cafit.domain.intake.CaffeineIntake;
 import com.hyuns.cafit.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.ListCrudRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CaffeineIntakeJpaRepository extends ListCrudRepository<CaffeineIntake, Long> {
 
+    Optional<CaffeineIntake> findFirstByUserAndIdempotencyKeyOrderByIdAsc(User user, String idempotencyKey);
+
+    // 조회한 기록은 계산에만 쓰므로 쓰기 트랜잭션 안에서 호출돼도 스냅샷을 만들지 않는다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<CaffeineIntake> findByUserAndConsumedAtBetweenOrderByConsumedAtDesc(
             User user, LocalDateTime start, LocalDateTime end
     );
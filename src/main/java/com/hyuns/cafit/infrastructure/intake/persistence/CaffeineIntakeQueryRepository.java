@@ -1,8 +1,11 @@
 package com.hyuns.cafit.infrastructure.intake.persistence;
 
+import com.hyuns.cafit.application.intake.dto.IntakeCursor;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.application.statistics.dto.TopBeverageStat;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -36,4 +39,39 @@ public class CaffeineIntakeQueryRepository {
                 .limit(limit)
                 .fetch();
     }
+
+    /**
+     * (user_id, consumed_at, id) 인덱스를 따라 커서 이전 기록을 최신순으로 조회한다.
+     * OFFSET 을 쓰지 않으므로 페이지 깊이와 관계없이 비용이 일정하다.
+     */
+    public List<IntakeHistoryRow> findHistoryBefore(User user, IntakeCursor cursor, int limit) {
+        return queryFactory
+                .select(Projections.constructor(IntakeHistoryRow.class,
+                        caffeineIntake.id,
+                        caffeineIntake.beverageName,
+                        caffeineIntake.brandName,
+                        caffeineIntake.category,
+                        caffeineIntake.volumeMl,
+                        caffeineIntake.caffeineMg,
+                        caffeineIntake.consumedAt,
+                        caffeineIntake.sourceType,
+                        caffeineIntake.sourceBeverageId
+                ))
+                .from(caffeineIntake)
+                .where(
+                        caffeineIntake.user.eq(user),
+                        before(cursor)
+                )
+                .orderBy(caffeineIntake.consumedAt.desc(), caffeineIntake.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression before(IntakeCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return caffeineIntake.consumedAt.lt(cursor.consumedAt())
+                .or(caffeineIntake.consumedAt.eq(cursor.consumedAt()).and(caffeineIntake.id.lt(cursor.id())));
+    }
 }
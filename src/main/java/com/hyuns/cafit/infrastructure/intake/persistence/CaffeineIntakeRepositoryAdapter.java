@@ -15,12 +15,18 @@ import java.util.Optional;
 public class CaffeineIntakeRepositoryAdapter implements CaffeineIntakeRepository {
 
     private final CaffeineIntakeJpaRepository caffeineIntakeJpaRepository;
+    private final CaffeineIntakeJdbcRepository caffeineIntakeJdbcRepository;
 
     @Override
     public Optional<CaffeineIntake> findById(Long id) {
         return caffeineIntakeJpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<CaffeineIntake> findByUserAndIdempotencyKey(User user, String idempotencyKey) {
+        return caffeineIntakeJpaRepository.findFirstByUserAndIdempotencyKeyOrderByIdAsc(user, idempotencyKey);
+    }
+
     @Override
     public List<CaffeineIntake> findByUserAndConsumedAtBetween(User user, LocalDateTime start, LocalDateTime end) {
         return caffeineIntakeJpaRepository.findByUserAndConsumedAtBetweenOrderByConsumedAtDesc(user, start, end);
@@ -31,6 +37,11 @@ public class CaffeineIntakeRepositoryAdapter implements CaffeineIntakeRepository
         return caffeineIntakeJpaRepository.save(caffeineIntake);
     }
 
+    @Override
+    public void saveAllInBatch(List<CaffeineIntake> caffeineIntakes) {
+        caffeineIntakeJdbcRepository.batchInsert(caffeineIntakes);
+    }
+
     @Override
     public void delete(CaffeineIntake caffeineIntake) {
         caffeineIntakeJpaRepository.delete(caffeineIntake);
@@ -0,0 +1,172 @@
+package com.hyuns.cafit.infrastructure.intake.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL 전용 caffeine_intakes 월 파티션 생성/삭제. 테이블 변환은 db/mysql/caffeine-intakes-partitioning.sql 이 한다.
+ * 서비스 조회 구간이 걸친 월 파티션만 읽지 않으면 기동을 실패시킨다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cafit.intake.partitioning.enabled", havingValue = "true")
+public class IntakePartitionManager {
+
+    private static final String TABLE = "caffeine_intakes";
+
+    private static final String SELECT_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+            """;
+
+    private static final String EXPLAIN_RANGE_SQL = """
+            EXPLAIN SELECT id FROM caffeine_intakes
+            WHERE user_id = ? AND consumed_at BETWEEN ? AND ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int ledgerRetentionHours;
+
+    public IntakePartitionManager(
+            JdbcTemplate jdbcTemplate,
+            Clock clock,
+            @Value("${cafit.intake.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${cafit.intake.partitioning.retention-months:0}") int retentionMonths,
+            @Value("${cafit.caffeine.ledger.retention-hours:48}") int ledgerRetentionHours
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.ledgerRetentionHours = ledgerRetentionHours;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (findPartitions().isEmpty()) {
+            throw new IllegalStateException(
+                    "caffeine_intakes 가 파티션 테이블이 아닙니다. db/mysql/caffeine-intakes-partitioning.sql 을 먼저 적용하세요");
+        }
+        maintain();
+        verifyPruning();
+    }
+
+    @Scheduled(cron = "${cafit.intake.partitioning.cron:0 0 3 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock);
+        createMonthlyPartitions(current);
+        dropExpiredPartitions(current);
+    }
+
+    /**
+     * findByUserAndConsumedAtBetween 과 같은 조건의 EXPLAIN 결과에서 접근하는 파티션 목록을 돌려준다.
+     */
+    public List<String> explainPartitions(LocalDateTime start, LocalDateTime end) {
+        List<String> partitions = jdbcTemplate.query(
+                EXPLAIN_RANGE_SQL,
+                (rs, rowNum) -> rs.getString("partitions"),
+                0L, Timestamp.valueOf(start), Timestamp.valueOf(end)
+        );
+        return partitions.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .toList();
+    }
+
+    private void createMonthlyPartitions(YearMonth current) {
+        List<String> existing = findPartitions();
+        List<YearMonth> missing = IntakePartitionPlan.hasMonthlyPartitions(existing)
+                ? IntakePartitionPlan.missingFutureMonths(existing, current, monthsAhead)
+                : IntakePartitionPlan.initialMonths(findEarliestMonth().orElse(current), current, monthsAhead);
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        // 월 파티션이 생긴 뒤의 p_max 는 미래 구간이라 비어 있으므로 분할 비용이 거의 없다
+        // 처음 한 번은 마이그레이션 직후라 p_max 에 있는 기존 기록을 월별로 옮긴다
+        List<String> definitions = new ArrayList<>();
+        missing.forEach(month -> definitions.add(IntakePartitionPlan.definitionOf(month)));
+        definitions.add(maxPartitionDefinition());
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + IntakePartitionPlan.MAX_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+
+        log.info("caffeine_intakes 월 파티션 생성: {}", missing);
+    }
+
+    private void dropExpiredPartitions(YearMonth current) {
+        List<String> expired = IntakePartitionPlan.expiredPartitions(findPartitions(), current, retentionMonths);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+        log.info("caffeine_intakes 보관 기간({}개월) 경과 파티션 삭제: {}", retentionMonths, expired);
+    }
+
+    /**
+     * 서비스가 쓰는 조회 구간(최근 24시간, 하루, 7일)이 파티션 하나 또는 두 개로 좁혀지는지 확인한다.
+     * 하나라도 프루닝되지 않으면 모든 조회가 전체 파티션을 읽게 되므로 기동을 실패시킨다.
+     */
+    private void verifyPruning() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDate today = now.toLocalDate();
+        LocalDateTime endOfToday = today.atTime(LocalTime.MAX);
+
+        Map<String, LocalDateTime> starts = Map.of(
+                "ledger", now.minusHours(ledgerRetentionHours),
+                "intake-window", now.minusHours(24),
+                "today", today.atStartOfDay(),
+                "last-7-days", today.minusDays(6).atStartOfDay(),
+                "last-30-days", today.minusDays(29).atStartOfDay()
+        );
+
+        Map<String, List<String>> results = starts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> explainPartitions(entry.getValue(), endOfToday)));
+        Map<String, List<String>> unpruned = results.entrySet().stream()
+                .filter(entry -> !IntakePartitionPlan.isPruned(
+                        entry.getValue(), starts.get(entry.getKey()).toLocalDate(), today))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (!unpruned.isEmpty()) {
+            throw new IllegalStateException("caffeine_intakes 파티션 프루닝 실패: " + unpruned);
+        }
+        log.info("파티션 프루닝 확인: {}", results);
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, TABLE);
+    }
+
+    private Optional<YearMonth> findEarliestMonth() {
+        Timestamp earliest = jdbcTemplate.queryForObject(
+                "SELECT MIN(consumed_at) FROM " + TABLE, Timestamp.class);
+        return Optional.ofNullable(earliest)
+                .map(timestamp -> YearMonth.from(timestamp.toLocalDateTime()));
+    }
+
+    private String maxPartitionDefinition() {
+        return "PARTITION " + IntakePartitionPlan.MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+    }
+}
@@ -0,0 +1,105 @@
+package com.hyuns.cafit.infrastructure.intake.persistence;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * caffeine_intakes 월 파티션 계획. p202610 의 상한은 '2026-11-01' 이고, 월 파티션은 p_max 를 분할해 만든다.
+ */
+public final class IntakePartitionPlan {
+
+    public static final String MAX_PARTITION = "p_max";
+
+    private static final String PREFIX = "p";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private IntakePartitionPlan() {
+    }
+
+    public static String nameOf(YearMonth month) {
+        return PREFIX + month.format(NAME_FORMAT);
+    }
+
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        if (partitionName == null || !partitionName.matches(PREFIX + "\\d{6}")) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.parse(partitionName.substring(PREFIX.length()), NAME_FORMAT));
+    }
+
+    public static String definitionOf(YearMonth month) {
+        LocalDate upperBound = month.plusMonths(1).atDay(1);
+        return "PARTITION " + nameOf(month) + " VALUES LESS THAN ('" + upperBound + " 00:00:00')";
+    }
+
+    public static boolean hasMonthlyPartitions(Collection<String> existing) {
+        return latestMonth(existing).isPresent();
+    }
+
+    /**
+     * 처음 월 파티션을 만들 때의 월 목록. 가장 오래된 기록의 달부터 current + monthsAhead 까지.
+     */
+    public static List<YearMonth> initialMonths(YearMonth earliest, YearMonth current, int monthsAhead) {
+        YearMonth start = earliest.isBefore(current) ? earliest : current;
+        return monthsBetween(start, current.plusMonths(monthsAhead));
+    }
+
+    /**
+     * 아직 없는 미래 파티션. p_max 를 분할하므로 가장 늦은 기존 파티션 이후 달만 대상이다.
+     */
+    public static List<YearMonth> missingFutureMonths(Collection<String> existing, YearMonth current, int monthsAhead) {
+        YearMonth target = current.plusMonths(monthsAhead);
+        YearMonth start = latestMonth(existing)
+                .map(latest -> latest.plusMonths(1))
+                .filter(next -> next.isAfter(current))
+                .orElse(current);
+
+        if (start.isAfter(target)) {
+            return List.of();
+        }
+        return monthsBetween(start, target);
+    }
+
+    /**
+     * 보관 기간이 지난 파티션. retentionMonths 가 0 이하이면 삭제하지 않는다.
+     */
+    public static List<String> expiredPartitions(Collection<String> existing, YearMonth current, int retentionMonths) {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+
+        YearMonth oldestRetained = current.minusMonths(retentionMonths);
+        return existing.stream()
+                .filter(name -> monthOf(name).filter(month -> month.isBefore(oldestRetained)).isPresent())
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 조회 구간이 걸친 월의 파티션만 읽는지. p_max 까지 읽으면 프루닝되지 않은 것으로 본다.
+     */
+    public static boolean isPruned(List<String> accessedPartitions, LocalDate start, LocalDate end) {
+        List<String> expected = Stream.iterate(YearMonth.from(start), month -> !month.isAfter(YearMonth.from(end)),
+                        month -> month.plusMonths(1))
+                .map(IntakePartitionPlan::nameOf)
+                .toList();
+        return !accessedPartitions.isEmpty() && expected.containsAll(accessedPartitions);
+    }
+
+    private static Optional<YearMonth> latestMonth(Collection<String> existing) {
+        return existing.stream()
+                .map(IntakePartitionPlan::monthOf)
+                .flatMap(Optional::stream)
+                .max(YearMonth::compareTo);
+    }
+
+    private static List<YearMonth> monthsBetween(YearMonth start, YearMonth endInclusive) {
+        return Stream.iterate(start, month -> !month.isAfter(endInclusive), month -> month.plusMonths(1))
+                .toList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.hyuns.cafit.presentation.dashboard;
+
+import com.hyuns.cafit.application.dashboard.DashboardFacade;
+import com.hyuns.cafit.application.dashboard.dto.DashboardResponse;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.global.security.Login;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    private final DashboardFacade dashboardFacade;
+
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @Login User user,
+            @RequestParam(defaultValue = "12") int hours
+    ) {
+        DashboardResponse response = dashboardFacade.getDashboard(user, hours);
+        return ResponseEntity.ok(response);
+    }
+}
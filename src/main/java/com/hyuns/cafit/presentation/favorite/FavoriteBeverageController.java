@@ -4,8 +4,10 @@ import com.hyuns.cafit.global.security.Login;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.application.favorite.dto.FavoriteBeverageResponse;
 import com.hyuns.cafit.application.favorite.dto.FavoriteCreateRequest;
+import com.hyuns.cafit.application.favorite.dto.FavoriteIntakeResponse;
 import com.hyuns.cafit.application.favorite.dto.FavoriteOrderUpdateRequest;
 import com.hyuns.cafit.application.favorite.FavoriteBeverageFacade;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -29,11 +31,24 @@ public class FavoriteBeverageController {
 
     @GetMapping
     public ResponseEntity<List<FavoriteBeverageResponse>> getFavorites(
-            @Login User user
+            @Login User user,
+            @RequestParam(defaultValue = "false") boolean includeSafety
     ) {
+        if (includeSafety) {
+            return ResponseEntity.ok(favoriteFacade.getFavoritesWithSafety(user));
+        }
         return ResponseEntity.ok(favoriteFacade.getFavorites(user));
     }
 
+    @PostMapping("/{favoriteId}/intake")
+    public ResponseEntity<FavoriteIntakeResponse> recordFavoriteIntake(
+            @PathVariable Long favoriteId,
+            @Login User user,
+            @Valid @RequestBody CaffeineIntakeCreateRequest request
+    ) {
+        return ResponseEntity.ok(favoriteFacade.recordFavoriteIntake(favoriteId, user, request));
+    }
+
     @DeleteMapping("/{favoriteId}")
     public ResponseEntity<Void> deleteFavorite(
             @PathVariable Long favoriteId,
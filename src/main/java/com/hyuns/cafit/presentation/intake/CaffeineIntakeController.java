@@ -4,26 +4,53 @@ import com.hyuns.cafit.global.security.Login;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.application.intake.dto.IntakeImportResponse;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryResponse;
+import com.hyuns.cafit.application.intake.CaffeineIntakeExportService;
+import com.hyuns.cafit.application.intake.CaffeineIntakeImportService;
 import com.hyuns.cafit.application.intake.CaffeineIntakeService;
+import com.hyuns.cafit.application.intake.IdempotentIntakeFacade;
+import com.hyuns.cafit.application.intake.IntakeFileFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/intakes")
 public class CaffeineIntakeController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final CaffeineIntakeService caffeineIntakeService;
+    private final CaffeineIntakeImportService caffeineIntakeImportService;
+    private final CaffeineIntakeExportService caffeineIntakeExportService;
+    private final IdempotentIntakeFacade idempotentIntakeFacade;
 
     @PostMapping("/preset/{beverageId}")
     public ResponseEntity<CaffeineIntakeResponse> recordPresetIntake(
             @PathVariable Long beverageId,
             @Login User user,
-            @Valid @RequestBody CaffeineIntakeCreateRequest request
+            @Valid @RequestBody CaffeineIntakeCreateRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
+        if (idempotencyKey != null) {
+            return ResponseEntity.ok(
+                    idempotentIntakeFacade.recordPresetIntake(user, beverageId, request, idempotencyKey)
+            );
+        }
         CaffeineIntakeResponse response = caffeineIntakeService.recordPresetIntake(user, beverageId, request);
         return ResponseEntity.ok(response);
     }
@@ -32,12 +59,61 @@ public class CaffeineIntakeController {
     public ResponseEntity<CaffeineIntakeResponse> recordCustomIntake(
             @PathVariable Long beverageId,
             @Login User user,
-            @Valid @RequestBody CaffeineIntakeCreateRequest request
+            @Valid @RequestBody CaffeineIntakeCreateRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
+        if (idempotencyKey != null) {
+            return ResponseEntity.ok(
+                    idempotentIntakeFacade.recordCustomIntake(user, beverageId, request, idempotencyKey)
+            );
+        }
         CaffeineIntakeResponse response = caffeineIntakeService.recordCustomIntake(user, beverageId, request);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<IntakeImportResponse> importCsv(
+            @Login User user,
+            InputStream body
+    ) {
+        IntakeImportResponse response = caffeineIntakeImportService.importIntakes(
+                user, toReader(body), IntakeFileFormat.CSV
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<IntakeImportResponse> importNdjson(
+            @Login User user,
+            InputStream body
+    ) {
+        IntakeImportResponse response = caffeineIntakeImportService.importIntakes(
+                user, toReader(body), IntakeFileFormat.NDJSON
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIntakes(
+            @Login User user,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean includeDailyTotals
+    ) {
+        IntakeFileFormat fileFormat = IntakeFileFormat.from(format);
+        StreamingResponseBody body = outputStream -> caffeineIntakeExportService.exportIntakes(
+                user,
+                fileFormat,
+                includeDailyTotals,
+                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"intakes." + fileFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/today")
     public ResponseEntity<List<CaffeineIntakeResponse>> getTodayIntakes(
             @Login User user
@@ -46,6 +122,16 @@ public class CaffeineIntakeController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping
+    public ResponseEntity<IntakeHistoryResponse> getIntakeHistory(
+            @Login User user,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        IntakeHistoryResponse response = caffeineIntakeService.getIntakeHistory(user, before, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{intakeId}")
     public ResponseEntity<Void> deleteIntake(
             @PathVariable Long intakeId,
@@ -55,4 +141,8 @@ public class CaffeineIntakeController {
         return ResponseEntity.noContent().build();
     }
 
+    private BufferedReader toReader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
 }
@@ -0,0 +1,42 @@
+-- ========================================
+-- caffeine_intakes 를 RANGE COLUMNS(consumed_at) 파티션 테이블로 바꾼다 (MySQL 전용)
+-- cafit.intake.partitioning.enabled 를 켠 환경에서 schema.sql 다음에 실행한다
+-- 이미 파티션 테이블이면 아무것도 하지 않는다
+-- ========================================
+-- 파티션 테이블은 외래 키를 지원하지 않으므로 user_id 소유자 검증은 애플리케이션에서만 한다
+-- 모든 유니크 키(PK 포함)에 consumed_at 이 있어야 하므로 PK 를 (id, consumed_at) 으로 바꾼다
+-- Idempotency-Key 유니크 키(uk_intake_user_idempotency_key)는 이미 consumed_at 을 포함한다
+-- 처음에는 p_max 하나로 만들고, 월 파티션은 IntakePartitionManager 가 p_max 를 분할해 만든다
+
+SET @partitioned := (
+    SELECT COUNT(*)
+    FROM information_schema.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'caffeine_intakes' AND PARTITION_NAME IS NOT NULL
+);
+
+-- 1. 외래 키 제거 (이름은 Hibernate 가 만든 것이라 information_schema 에서 찾는다)
+SET @drops := (
+    SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', CONSTRAINT_NAME) SEPARATOR ', ')
+    FROM information_schema.REFERENTIAL_CONSTRAINTS
+    WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'caffeine_intakes'
+);
+SET @ddl := IF(@partitioned = 0 AND @drops IS NOT NULL, CONCAT('ALTER TABLE caffeine_intakes ', @drops), 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. PK 에 파티션 컬럼 포함
+SET @ddl := IF(@partitioned = 0,
+    'ALTER TABLE caffeine_intakes DROP PRIMARY KEY, ADD PRIMARY KEY (id, consumed_at)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3. 파티셔닝
+SET @ddl := IF(@partitioned = 0,
+    'ALTER TABLE caffeine_intakes PARTITION BY RANGE COLUMNS (consumed_at) (PARTITION p_max VALUES LESS THAN (MAXVALUE))',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
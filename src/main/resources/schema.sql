@@ -0,0 +1,19 @@
+-- ========================================
+-- 엔티티가 아닌 운영용 테이블
+-- 엔티티 테이블은 Hibernate 가 만든 뒤(defer-datasource-initialization) 실행된다
+-- ========================================
+
+-- replica 지연 측정용 heartbeat (ReplicaLagMonitor)
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id      INT          PRIMARY KEY,
+    beat_at TIMESTAMP(3) NOT NULL
+);
+
+-- 다른 노드의 로컬 캐시 무효화용 변경 기록 (OutboxWriter, OutboxPoller)
+CREATE TABLE IF NOT EXISTS outbox (
+    id         BIGINT       AUTO_INCREMENT PRIMARY KEY,
+    node_id    VARCHAR(36)  NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    event_type VARCHAR(40)  NOT NULL,
+    created_at TIMESTAMP(3) NOT NULL
+);
@@ -179,14 +179,23 @@ const BeverageAPI = {
 };
 
 // Intake API
+// 재시도 시 같은 idempotencyKey 를 넘기면 서버에서 한 번만 기록된다
 const IntakeAPI = {
-    recordPreset: (beverageId, consumedAt) => fetchAPI(`${API_BASE}/intakes/preset/${beverageId}`, {
+    recordPreset: (beverageId, consumedAt, idempotencyKey = crypto.randomUUID()) => fetchAPI(`${API_BASE}/intakes/preset/${beverageId}`, {
         method: 'POST',
+        headers: {
+            'Content-Type': 'application/json',
+            'Idempotency-Key': idempotencyKey,
+        },
         body: JSON.stringify({ consumedAt }),
     }),
 
-    recordCustom: (beverageId, consumedAt) => fetchAPI(`${API_BASE}/intakes/custom/${beverageId}`, {
+    recordCustom: (beverageId, consumedAt, idempotencyKey = crypto.randomUUID()) => fetchAPI(`${API_BASE}/intakes/custom/${beverageId}`, {
         method: 'POST',
+        headers: {
+            'Content-Type': 'application/json',
+            'Idempotency-Key': idempotencyKey,
+        },
         body: JSON.stringify({ consumedAt }),
     }),
 
@@ -236,6 +245,11 @@ const StatisticsAPI = {
     getTopBeverages: (days = 7) => fetchAPI(`${API_BASE}/statistics/top-beverages?days=${days}`),
 };
 
+// Dashboard API (첫 화면 데이터를 한 번에 조회)
+const DashboardAPI = {
+    get: (hours = 12) => fetchAPI(`${API_BASE}/dashboard?hours=${hours}`),
+};
+
 // Favorite API (신규)
 const FavoriteAPI = {
     getAll: () => fetchAPI(`${API_BASE}/favorites`),
@@ -249,6 +263,11 @@ const FavoriteAPI = {
         method: 'DELETE',
     }),
 
+    recordIntake: (favoriteId, consumedAt) => fetchAPI(`${API_BASE}/favorites/${favoriteId}/intake`, {
+        method: 'POST',
+        body: JSON.stringify({ consumedAt }),
+    }),
+
     updateOrder: (favoriteIds) => fetchAPI(`${API_BASE}/favorites/order`, {
         method: 'PUT',
         body: JSON.stringify({ favoriteIds }),
@@ -53,16 +53,41 @@ const AppState = {
 // 앱 초기화
 async function initApp() {
     updateTodayDate();
-    await loadCategories();
-    await loadCaffeineStatus();
-    await loadCustomBeverages();
-    await loadTodayIntakes();
-    await loadTimeline();
-    await loadFavorites();
+    await loadDashboard();
     setupEventListeners();
     startPolling();
 }
 
+// 첫 화면 데이터 로드 (상태, 타임라인, 오늘 기록, 즐겨찾기, 커스텀 음료, 카테고리)
+async function loadDashboard() {
+    try {
+        const dashboard = await DashboardAPI.get(12);
+
+        AppState.categories = dashboard.categories;
+        populateCategorySelect();
+
+        AppState.currentCaffeineStatus = dashboard.status;
+        updateCaffeineStatusUI();
+
+        AppState.customBeverages = dashboard.customBeverages;
+        renderCustomBeverages();
+
+        AppState.todayIntakes = dashboard.todayIntakes;
+        renderTodayIntakes();
+        updateIntakeCount();
+
+        AppState.timelineData = dashboard.timeline;
+        renderCaffeineChart();
+        renderHeatmap();
+
+        AppState.favorites = dashboard.favorites;
+        renderFavorites();
+        syncAllFavoriteButtons();
+    } catch (error) {
+        console.error('대시보드 로드 실패:', error);
+    }
+}
+
 // 오늘 날짜 표시
 function updateTodayDate() {
     const today = new Date();
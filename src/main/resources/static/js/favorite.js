@@ -238,9 +238,6 @@ async function quickDrinkFavorite(favoriteId) {
     const favorite = AppState.favorites.find(f => f.id === favoriteId);
     if (!favorite) return;
 
-    const type = String(favorite.type || '').toLowerCase();
-    const beverageId = favorite.beverageId;
-
     // 현재 시간으로 바로 섭취 기록
     const now = new Date();
     const isoDateTime = new Date(now.getTime() - now.getTimezoneOffset() * 60000)
@@ -248,15 +245,12 @@ async function quickDrinkFavorite(favoriteId) {
         .slice(0, 19);
 
     try {
-        if (type === 'preset') {
-            await IntakeAPI.recordPreset(beverageId, isoDateTime);
-        } else {
-            await IntakeAPI.recordCustom(beverageId, isoDateTime);
-        }
+        const result = await FavoriteAPI.recordIntake(favoriteId, isoDateTime);
 
-        // 즉시 갱신
+        // 응답에 포함된 상태로 즉시 갱신
+        AppState.currentCaffeineStatus = result.status;
+        updateCaffeineStatusUI();
         await loadTodayIntakes();
-        await loadCaffeineStatus();
         await loadTimeline();
 
         showToast(`🚀 ${favorite.name} ${Math.round(favorite.caffeineMg)}mg 즉시 기록!`);
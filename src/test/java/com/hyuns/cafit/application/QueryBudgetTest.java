@@ -0,0 +1,66 @@
+package com.hyuns.cafit.application;
+
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.context.QueryBudget;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자주 호출되는 엔드포인트의 요청당 SQL 문 수 상한. 필터, 로그인 사용자 조회부터 응답 직렬화까지 요청 전체를 센다.
+ * 로그인 사용자 조회는 요청마다 한 번씩 포함된다.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @QueryBudget(3)
+    @Sql("/sql/statistics/insert_statistics_data.sql")
+    void 현재_상태_조회() throws Exception {
+        mockMvc.perform(get("/api/caffeine/status")
+                        .session(loginSession()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    @Sql("/sql/statistics/insert_statistics_data.sql")
+    void 일별_통계_조회는_기간과_무관하게_한_번만_조회한다() throws Exception {
+        mockMvc.perform(get("/api/statistics/daily")
+                        .session(loginSession())
+                        .param("days", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dailyStats.length()").value(30));
+    }
+
+    @Test
+    @QueryBudget(2)
+    @Sql("/sql/favorite/insert_favorites.sql")
+    void 즐겨찾기_목록_조회() throws Exception {
+        mockMvc.perform(get("/api/favorites")
+                        .session(loginSession()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    private MockHttpSession loginSession() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        return session;
+    }
+}
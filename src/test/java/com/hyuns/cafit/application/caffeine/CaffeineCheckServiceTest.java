@@ -8,9 +8,11 @@ import com.hyuns.cafit.application.caffeine.dto.CaffeineStatus;
 import com.hyuns.cafit.application.caffeine.dto.CurrentCaffeineResponse;
 import com.hyuns.cafit.application.caffeine.dto.DrinkCheckResponse;
 import com.hyuns.cafit.application.caffeine.dto.DrinkRecommendation;
+import com.hyuns.cafit.application.caffeine.dto.DrinkSafety;
 import com.hyuns.cafit.context.IntegrationTest;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.domain.user.repository.UserRepository;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -129,4 +131,22 @@ class CaffeineCheckServiceTest {
                 () -> assertThat(response.settings().targetSleepCaffeineMg()).isEqualTo(50.0)
         );
     }
+
+    @Test
+    @Sql("/sql/auth/insert_user.sql")
+    void 여러_음료의_안전도를_요청_순서대로_계산한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+
+        // when
+        List<DrinkSafety> safeties = caffeineCheckService.estimateDrinkSafeties(user, List.of(30.0, 500.0));
+
+        // then
+        assertAll(
+                () -> assertThat(safeties).hasSize(2),
+                () -> assertThat(safeties.get(1).recommendation()).isEqualTo(DrinkRecommendation.DANGER),
+                () -> assertThat(safeties.get(1).predictedAtBedtimeMg())
+                        .isGreaterThan(safeties.get(0).predictedAtBedtimeMg())
+        );
+    }
 }
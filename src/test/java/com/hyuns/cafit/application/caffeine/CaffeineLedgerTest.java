@@ -0,0 +1,145 @@
+package com.hyuns.cafit.application.caffeine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.hyuns.cafit.application.favorite.FavoriteBeverageFacade;
+import com.hyuns.cafit.application.favorite.dto.FavoriteIntakeResponse;
+import com.hyuns.cafit.application.intake.CaffeineIntakeService;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class CaffeineLedgerTest {
+
+    @Autowired
+    private CaffeineLedger caffeineLedger;
+
+    @Autowired
+    private CaffeineCheckService caffeineCheckService;
+
+    @Autowired
+    private CaffeineIntakeService caffeineIntakeService;
+
+    @Autowired
+    private FavoriteBeverageFacade favoriteBeverageFacade;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void 섭취_기록과_삭제가_커밋_이후_원장에_반영된다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        caffeineCheckService.getCurrentStatus(user);
+
+        // when
+        CaffeineIntakeResponse recorded = caffeineIntakeService.recordPresetIntake(
+                user, 1L, new CaffeineIntakeCreateRequest(LocalDateTime.now()));
+        double afterRecord = caffeineCheckService.getCurrentStatus(user).status().todayTotalMg();
+
+        caffeineIntakeService.deleteIntake(recorded.id(), user);
+        double afterDelete = caffeineCheckService.getCurrentStatus(user).status().todayTotalMg();
+
+        // then
+        assertAll(
+                () -> assertThat(afterRecord).isEqualTo(150.0),
+                () -> assertThat(afterDelete).isEqualTo(0.0)
+        );
+    }
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void DB가_시각_정밀도를_줄여도_삭제한_기록은_원장에서_빠진다() {
+        // given: 원장에는 나노초까지, DB 에는 줄어든 정밀도로 저장된다
+        User user = userRepository.findById(1L).orElseThrow();
+        caffeineCheckService.getCurrentStatus(user);
+        LocalDateTime consumedAt = LocalDateTime.now().withNano(123_456_789);
+        CaffeineIntakeResponse recorded = caffeineIntakeService.recordPresetIntake(
+                user, 1L, new CaffeineIntakeCreateRequest(consumedAt));
+
+        // when: 삭제는 DB 에서 다시 읽은 기록으로 이벤트를 낸다
+        caffeineIntakeService.deleteIntake(recorded.id(), user);
+
+        // then
+        assertThat(caffeineLedger.snapshot(user).todayTotalMg()).isEqualTo(0.0);
+    }
+
+    @Test
+    @Sql("/sql/favorite/insert_favorites.sql")
+    void 즐겨찾기_섭취_응답의_상태는_원장이_없어도_새_기록을_한_번만_더한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        caffeineLedger.evict(user.getId());
+
+        // when
+        FavoriteIntakeResponse response = favoriteBeverageFacade.recordFavoriteIntake(
+                1L, user, new CaffeineIntakeCreateRequest(LocalDateTime.now()));
+
+        // then
+        assertAll(
+                () -> assertThat(response.status().status().todayTotalMg()).isEqualTo(150.0),
+                () -> assertThat(caffeineLedger.snapshot(user).todayTotalMg()).isEqualTo(150.0)
+        );
+    }
+
+    @Test
+    @Sql("/sql/favorite/insert_favorites.sql")
+    void 즐겨찾기_섭취_응답의_상태는_적재된_원장에도_새_기록을_포함한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        caffeineCheckService.getCurrentStatus(user);
+
+        // when
+        FavoriteIntakeResponse response = favoriteBeverageFacade.recordFavoriteIntake(
+                1L, user, new CaffeineIntakeCreateRequest(LocalDateTime.now()));
+
+        // then
+        assertThat(response.status().status().todayTotalMg()).isEqualTo(150.0);
+    }
+
+    @Test
+    @Sql("/sql/auth/insert_user.sql")
+    void 적재된_원장은_DB를_다시_읽지_않고_evict하면_다시_적재한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        caffeineLedger.snapshot(user);
+        insertIntakeDirectly(LocalDateTime.now());
+
+        // when
+        double cached = caffeineLedger.snapshot(user).todayTotalMg();
+        caffeineLedger.evict(user.getId());
+        double reloaded = caffeineLedger.snapshot(user).todayTotalMg();
+
+        // then
+        assertAll(
+                () -> assertThat(cached).isEqualTo(0.0),
+                () -> assertThat(reloaded).isEqualTo(100.0)
+        );
+    }
+
+    private void insertIntakeDirectly(LocalDateTime consumedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO caffeine_intakes (user_id, beverage_name, brand_name, category, volume_ml, caffeine_mg,
+                                              consumed_at, source_type, source_beverage_id)
+                VALUES (1, '아메리카노', NULL, 'AMERICANO', 355, 100.0, ?, 'PRESET', 1)
+                """, Timestamp.valueOf(consumedAt));
+    }
+}
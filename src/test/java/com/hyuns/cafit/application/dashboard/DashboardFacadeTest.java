@@ -0,0 +1,52 @@
+package com.hyuns.cafit.application.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.hyuns.cafit.application.caffeine.CaffeineCheckService;
+import com.hyuns.cafit.application.dashboard.dto.DashboardResponse;
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.beverage.BeverageCategory;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class DashboardFacadeTest {
+
+    @Autowired
+    private DashboardFacade dashboardFacade;
+
+    @Autowired
+    private CaffeineCheckService caffeineCheckService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @Sql("/sql/intake/insert_caffeine_intakes.sql")
+    void 대시보드는_개별_조회와_같은_결과를_한_번에_반환한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+
+        // when
+        DashboardResponse response = dashboardFacade.getDashboard(user, 12);
+
+        // then
+        assertAll(
+                () -> assertThat(response.status().status().todayTotalMg())
+                        .isEqualTo(caffeineCheckService.getCurrentStatus(user).status().todayTotalMg()),
+                () -> assertThat(response.timeline().dataPoints()).hasSize(13),
+                () -> assertThat(response.todayIntakes()).isNotEmpty(),
+                () -> assertThat(response.favorites()).isEmpty(),
+                () -> assertThat(response.customBeverages()).isEmpty(),
+                () -> assertThat(response.categories()).hasSize(BeverageCategory.values().length)
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.hyuns.cafit.application.intake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import java.io.StringWriter;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class CaffeineIntakeExportServiceTest {
+
+    @Autowired
+    private CaffeineIntakeExportService caffeineIntakeExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @Sql("/sql/intake/insert_intake_history.sql")
+    void 전체_이력을_일별_합계와_함께_CSV로_내보낸다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        StringWriter writer = new StringWriter();
+
+        // when
+        caffeineIntakeExportService.exportIntakes(user, IntakeFileFormat.CSV, true, writer);
+
+        // then
+        assertThat(writer.toString().lines()).containsExactly(
+                "consumedAt,sourceType,beverageId,beverageName,brandName,category,volumeMl,caffeineMg",
+                "2026-01-10T09:00,PRESET,1,아메리카노,스타벅스,AMERICANO,355,150.0",
+                "#daily,2026-01-10,150.0,1",
+                "2026-02-10T09:00,PRESET,2,카페라떼,스타벅스,LATTE,355,75.0",
+                "#daily,2026-02-10,75.0,1",
+                "2026-03-10T09:00,PRESET,1,아메리카노,스타벅스,AMERICANO,355,150.0",
+                "2026-03-10T09:00,PRESET,2,카페라떼,스타벅스,LATTE,355,75.0",
+                "#daily,2026-03-10,225.0,2"
+        );
+    }
+
+    @Test
+    @Sql("/sql/intake/insert_intake_history.sql")
+    void 전체_이력을_NDJSON으로_내보낸다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        StringWriter writer = new StringWriter();
+
+        // when
+        caffeineIntakeExportService.exportIntakes(user, IntakeFileFormat.NDJSON, false, writer);
+
+        // then
+        assertThat(writer.toString().lines())
+                .hasSize(4)
+                .first()
+                .asString()
+                .contains("\"id\":1", "\"sourceBeverageId\":1", "\"consumedAt\":\"2026-01-10T09:00");
+    }
+}
@@ -0,0 +1,92 @@
+package com.hyuns.cafit.application.intake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.hyuns.cafit.application.intake.dto.IntakeImportError;
+import com.hyuns.cafit.application.intake.dto.IntakeImportResponse;
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.intake.CaffeineIntake;
+import com.hyuns.cafit.domain.intake.repository.CaffeineIntakeRepository;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class CaffeineIntakeImportServiceTest {
+
+    @Autowired
+    private CaffeineIntakeImportService caffeineIntakeImportService;
+
+    @Autowired
+    private CaffeineIntakeRepository caffeineIntakeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @Sql({"/sql/beverage/insert_custom_beverages.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void CSV_섭취_기록을_가져오고_잘못된_행은_오류로_보고한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        String csv = """
+                consumedAt,sourceType,beverageId
+                2025-01-10T09:00:00,PRESET,1
+                2025-01-10T14:00:00,CUSTOM,1
+                2025-01-11T09:00:00,PRESET,999
+                not-a-date,PRESET,1
+                """;
+
+        // when
+        IntakeImportResponse response = caffeineIntakeImportService.importIntakes(
+                user, new BufferedReader(new StringReader(csv)), IntakeFileFormat.CSV
+        );
+
+        // then
+        List<CaffeineIntake> saved = caffeineIntakeRepository.findByUserAndConsumedAtBetween(
+                user, LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 0, 0)
+        );
+        assertAll(
+                () -> assertThat(response.importedRows()).isEqualTo(2),
+                () -> assertThat(response.failedRows()).isEqualTo(2),
+                () -> assertThat(response.importedCaffeineMg()).isEqualTo(270.0),
+                () -> assertThat(response.firstConsumedAt()).isEqualTo(LocalDateTime.of(2025, 1, 10, 9, 0)),
+                () -> assertThat(response.lastConsumedAt()).isEqualTo(LocalDateTime.of(2025, 1, 10, 14, 0)),
+                () -> assertThat(response.errors()).extracting(IntakeImportError::line).containsExactly(4L, 5L),
+                () -> assertThat(saved).hasSize(2)
+        );
+    }
+
+    @Test
+    @Sql({"/sql/beverage/insert_custom_beverages.sql", "/sql/auth/insert_other_user.sql"})
+    void NDJSON_으로_다른_사용자의_커스텀_음료는_가져올_수_없다() {
+        // given
+        User otherUser = userRepository.findById(2L).orElseThrow();
+        String ndjson = """
+                {"consumedAt":"2025-01-10T09:00:00","sourceType":"CUSTOM","beverageId":1}
+                {"consumedAt":"2025-01-10T10:00:00"}
+                """;
+
+        // when
+        IntakeImportResponse response = caffeineIntakeImportService.importIntakes(
+                otherUser, new BufferedReader(new StringReader(ndjson)), IntakeFileFormat.NDJSON
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(response.importedRows()).isZero(),
+                () -> assertThat(response.failedRows()).isEqualTo(2),
+                () -> assertThat(response.errors()).extracting(IntakeImportError::line).containsExactly(1L, 2L)
+        );
+    }
+}
@@ -6,8 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryResponse;
 import com.hyuns.cafit.context.IntegrationTest;
 import com.hyuns.cafit.domain.beverage.BeverageType;
+import com.hyuns.cafit.domain.favorite.FavoriteBeverage;
+import com.hyuns.cafit.domain.favorite.repository.FavoriteBeverageRepository;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.domain.user.repository.UserRepository;
 import com.hyuns.cafit.global.exception.BeverageAccessDeniedException;
@@ -15,6 +19,7 @@ import com.hyuns.cafit.global.exception.BeverageNotFoundException;
 import com.hyuns.cafit.global.exception.CustomBeverageNotFoundException;
 import com.hyuns.cafit.global.exception.IntakeAccessDeniedException;
 import com.hyuns.cafit.global.exception.IntakeNotFoundException;
+import com.hyuns.cafit.global.exception.InvalidIntakeCursorException;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -34,6 +39,9 @@ class CaffeineIntakeServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FavoriteBeverageRepository favoriteBeverageRepository;
+
     @Test
     @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
     void 프리셋_음료_섭취를_기록한다() {
@@ -91,6 +99,28 @@ class CaffeineIntakeServiceTest {
         );
     }
 
+    @Test
+    @Sql("/sql/favorite/insert_favorites.sql")
+    void 즐겨찾기_음료_섭취를_기록한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        FavoriteBeverage favorite = favoriteBeverageRepository.findByIdWithBeverage(2L).orElseThrow();
+        LocalDateTime consumedAt = LocalDateTime.of(2026, 3, 23, 11, 0);
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(consumedAt);
+
+        // when
+        CaffeineIntakeResponse response = caffeineIntakeService.recordFavoriteIntake(user, favorite, request);
+
+        // then
+        assertAll(
+                () -> assertThat(response.id()).isNotNull(),
+                () -> assertThat(response.beverageName()).isEqualTo("카페라떼"),
+                () -> assertThat(response.caffeineMg()).isEqualTo(75.0),
+                () -> assertThat(response.sourceType()).isEqualTo(BeverageType.PRESET),
+                () -> assertThat(response.sourceBeverageId()).isEqualTo(2L)
+        );
+    }
+
     @Test
     @Sql("/sql/auth/insert_user.sql")
     void 존재하지_않는_커스텀_음료를_기록하면_예외가_발생한다() {
@@ -131,6 +161,51 @@ class CaffeineIntakeServiceTest {
         );
     }
 
+    @Test
+    @Sql("/sql/intake/insert_intake_history.sql")
+    void 섭취_기록을_커서_기준으로_최신순_페이지_조회한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+
+        // when
+        IntakeHistoryResponse first = caffeineIntakeService.getIntakeHistory(user, null, 3);
+        IntakeHistoryResponse second = caffeineIntakeService.getIntakeHistory(user, first.nextCursor(), 3);
+
+        // then
+        assertAll(
+                () -> assertThat(first.intakes()).extracting(IntakeHistoryRow::id).containsExactly(4L, 3L, 2L),
+                () -> assertThat(first.hasNext()).isTrue(),
+                () -> assertThat(first.nextCursor()).isEqualTo("2026-02-10T09:00,2"),
+                () -> assertThat(second.intakes()).extracting(IntakeHistoryRow::id).containsExactly(1L),
+                () -> assertThat(second.hasNext()).isFalse(),
+                () -> assertThat(second.nextCursor()).isNull()
+        );
+    }
+
+    @Test
+    @Sql("/sql/intake/insert_intake_history.sql")
+    void 같은_시각의_기록은_id로_구분해_이어서_조회한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+
+        // when
+        IntakeHistoryResponse response = caffeineIntakeService.getIntakeHistory(user, "2026-03-10T09:00,4", 10);
+
+        // then
+        assertThat(response.intakes()).extracting(IntakeHistoryRow::id).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @Sql("/sql/intake/insert_intake_history.sql")
+    void 잘못된_커서로_조회하면_예외가_발생한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+
+        // when & then
+        assertThatThrownBy(() -> caffeineIntakeService.getIntakeHistory(user, "invalid", 10))
+                .isInstanceOf(InvalidIntakeCursorException.class);
+    }
+
     @Test
     @Sql("/sql/intake/insert_caffeine_intakes.sql")
     void 섭취_기록을_삭제한다() {
@@ -0,0 +1,127 @@
+package com.hyuns.cafit.application.intake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.intake.repository.CaffeineIntakeRepository;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import com.hyuns.cafit.global.exception.InvalidIdempotencyKeyException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class IdempotentIntakeFacadeTest {
+
+    private static final LocalDateTime CONSUMED_AT = LocalDateTime.of(2026, 3, 23, 9, 0);
+
+    @Autowired
+    private IdempotentIntakeFacade idempotentIntakeFacade;
+
+    @Autowired
+    private CaffeineIntakeService caffeineIntakeService;
+
+    @Autowired
+    private CaffeineIntakeRepository caffeineIntakeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void 같은_키로_재시도하면_저장된_응답을_돌려주고_한_번만_기록한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(CONSUMED_AT);
+
+        // when
+        CaffeineIntakeResponse first = idempotentIntakeFacade.recordPresetIntake(user, 1L, request, "retry-key");
+        CaffeineIntakeResponse retried = idempotentIntakeFacade.recordPresetIntake(user, 1L, request, "retry-key");
+
+        // then
+        assertAll(
+                () -> assertThat(retried).isEqualTo(first),
+                () -> assertThat(countIntakes(user)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void 최근_키_저장소에_없는_키는_유니크_키로_중복을_확인한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(CONSUMED_AT);
+        CaffeineIntakeResponse stored = caffeineIntakeService.recordPresetIntake(user, 1L, request, "stored-key");
+
+        // when
+        CaffeineIntakeResponse replayed = idempotentIntakeFacade.recordPresetIntake(user, 1L, request, "stored-key");
+
+        // then
+        assertAll(
+                () -> assertThat(replayed.id()).isEqualTo(stored.id()),
+                () -> assertThat(countIntakes(user)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void 섭취_시각을_바꿔_키를_재사용해도_최근_키_저장소에_있으면_한_번만_기록한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        CaffeineIntakeResponse first = idempotentIntakeFacade.recordPresetIntake(
+                user, 1L, new CaffeineIntakeCreateRequest(CONSUMED_AT), "moved-key");
+
+        // when
+        CaffeineIntakeResponse replayed = idempotentIntakeFacade.recordPresetIntake(
+                user, 1L, new CaffeineIntakeCreateRequest(CONSUMED_AT.plusHours(1)), "moved-key");
+
+        // then
+        assertAll(
+                () -> assertThat(replayed.id()).isEqualTo(first.id()),
+                () -> assertThat(countIntakes(user)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void 다른_키는_각각_기록한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(CONSUMED_AT);
+
+        // when
+        idempotentIntakeFacade.recordPresetIntake(user, 1L, request, "key-1");
+        idempotentIntakeFacade.recordPresetIntake(user, 1L, request, "key-2");
+
+        // then
+        assertThat(countIntakes(user)).isEqualTo(2);
+    }
+
+    @Test
+    @Sql("/sql/auth/insert_user.sql")
+    void 키가_64자를_넘으면_예외가_발생한다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(CONSUMED_AT);
+
+        // when & then
+        assertThatThrownBy(() -> idempotentIntakeFacade.recordPresetIntake(user, 1L, request, "k".repeat(65)))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+    }
+
+    private int countIntakes(User user) {
+        return caffeineIntakeRepository.findByUserAndConsumedAtBetween(
+                user, CONSUMED_AT.minusDays(1), CONSUMED_AT.plusDays(1)
+        ).size();
+    }
+}
@@ -0,0 +1,58 @@
+package com.hyuns.cafit.application.intake;
+
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+import com.hyuns.cafit.domain.intake.event.IntakeDeleted;
+import com.hyuns.cafit.domain.intake.event.IntakesImported;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RecentIdempotencyKeysTest {
+
+    private static final LocalDateTime CONSUMED_AT = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    @Test
+    void 기록이_삭제되면_그_기록의_키만_잊는다() {
+        // given
+        RecentIdempotencyKeys keys = new RecentIdempotencyKeys();
+        keys.put(1L, "key-1", response(10L));
+        keys.put(1L, "key-2", response(11L));
+
+        // when
+        keys.handle(new IntakeDeleted(1L, 10L, CONSUMED_AT, 150.0));
+
+        // then
+        assertAll(
+                () -> assertThat(keys.find(1L, "key-1")).isEmpty(),
+                () -> assertThat(keys.find(1L, "key-2")).map(CaffeineIntakeResponse::id).contains(11L)
+        );
+    }
+
+    @Test
+    void 삭제가_아닌_이벤트는_무시한다() {
+        // given
+        RecentIdempotencyKeys keys = new RecentIdempotencyKeys();
+        keys.put(1L, "key-1", response(10L));
+
+        // when
+        keys.handle(new IntakesImported(1L, 3L));
+
+        // then
+        assertThat(keys.find(1L, "key-1")).isPresent();
+    }
+
+    private CaffeineIntakeResponse response(Long id) {
+        return new CaffeineIntakeResponse(
+                id, "아메리카노", "스타벅스", "아메리카노", 355, 150.0,
+                CONSUMED_AT, "스타벅스 아메리카노", BeverageType.PRESET, 1L
+        );
+    }
+}
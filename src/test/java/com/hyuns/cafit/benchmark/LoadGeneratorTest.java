@@ -0,0 +1,397 @@
+package com.hyuns.cafit.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hyuns.cafit.CafitApplication;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * app.js 를 쓰는 사용자를 흉내 내는 부하 생성기.
+ * 로그인 후 첫 화면(대시보드, 즐겨찾기, 카테고리, 내 음료)을 읽고, 이후 pollSeconds 마다 상태/타임라인을 폴링한다.
+ * 폴링 사이에는 think time 을 두고 가끔 섭취 기록/삭제, 즐겨찾기 순서 변경, 통계 화면, 음료 확인을 한다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Dloadtest.users=500 -Dloadtest.durationSeconds=600
+ * ./gradlew loadTest -Dloadtest.baseUrl=http://localhost:8080   # 이미 떠 있는 서버 대상
+ * </pre>
+ * baseUrl 이 없으면 test 프로필(H2)로 애플리케이션을 띄운다.
+ * 결과(엔드포인트별 요청 수, 처리량, p50/p95/p99)는 build/reports/loadtest/load-test.json 에 기록된다.
+ */
+@Tag("loadtest")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class LoadGeneratorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGeneratorTest.class);
+
+    private static final String BASE_URL = System.getProperty("loadtest.baseUrl", "");
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 180);
+    private static final int RAMP_UP_SECONDS = Integer.getInteger("loadtest.rampUpSeconds", 30);
+    private static final int POLL_SECONDS = Integer.getInteger("loadtest.pollSeconds", 60);
+    private static final int THINK_MIN_MILLIS = Integer.getInteger("loadtest.thinkMinMillis", 5_000);
+    private static final int THINK_MAX_MILLIS = Integer.getInteger("loadtest.thinkMaxMillis", 30_000);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final Path REPORT = Path.of("build", "reports", "loadtest", "load-test.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void app_js_사용자_패턴으로_부하를_주고_엔드포인트별_처리량과_백분위를_기록한다() throws Exception {
+        // given
+        Recorder recorder = new Recorder();
+
+        // when
+        if (BASE_URL.isBlank()) {
+            try (ConfigurableApplicationContext context = startApplication()) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                drive("http://localhost:" + port, recorder);
+            }
+        } else {
+            drive(BASE_URL, recorder);
+        }
+
+        // then
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", BASE_URL.isBlank() ? "embedded" : BASE_URL);
+        report.put("users", USERS);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("pollSeconds", POLL_SECONDS);
+        report.put("thinkMillis", List.of(THINK_MIN_MILLIS, THINK_MAX_MILLIS));
+        report.put("seed", SEED);
+        report.put("total", recorder.total(DURATION_SECONDS));
+        report.put("endpoints", recorder.byEndpoint(DURATION_SECONDS));
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+
+        recorder.byEndpoint(DURATION_SECONDS).values().forEach(endpoint -> log.info("{}", endpoint));
+        log.info("{}", recorder.total(DURATION_SECONDS));
+
+        assertThat(recorder.total(DURATION_SECONDS).requests()).isPositive();
+    }
+
+    private ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(CafitApplication.class).run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.com.hyuns.cafit=WARN"
+        );
+    }
+
+    private void drive(String baseUrl, Recorder recorder) {
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < USERS; i++) {
+                long startAt = start + Duration.ofSeconds(RAMP_UP_SECONDS).toNanos() * i / Math.max(USERS, 1);
+                SimulatedUser user = new SimulatedUser(baseUrl, "load-" + runId + "-" + i, new Random(SEED + i), recorder);
+                clients.submit(() -> user.run(startAt, deadline));
+            }
+        }
+    }
+
+    private final class SimulatedUser {
+
+        private final String baseUrl;
+        private final String name;
+        private final Random random;
+        private final Recorder recorder;
+        private final HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        private final List<Long> customBeverageIds = new ArrayList<>();
+        private final List<Long> favoriteIds = new ArrayList<>();
+
+        private SimulatedUser(String baseUrl, String name, Random random, Recorder recorder) {
+            this.baseUrl = baseUrl;
+            this.name = name;
+            this.random = random;
+            this.recorder = recorder;
+        }
+
+        void run(long startAt, long deadline) {
+            try {
+                sleepUntil(startAt);
+                login();
+                openApp();
+
+                long nextPoll = System.nanoTime() + Duration.ofSeconds(POLL_SECONDS).toNanos();
+                while (System.nanoTime() < deadline) {
+                    long nextAction = System.nanoTime() + Duration.ofMillis(thinkTime()).toNanos();
+                    if (nextPoll <= nextAction) {
+                        sleepUntil(Math.min(nextPoll, deadline));
+                        poll();
+                        nextPoll += Duration.ofSeconds(POLL_SECONDS).toNanos();
+                        continue;
+                    }
+                    sleepUntil(Math.min(nextAction, deadline));
+                    if (System.nanoTime() < deadline) {
+                        act(random.nextInt(100));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                recorder.error("session");
+            }
+        }
+
+        private void login() throws Exception {
+            String email = name + "@load.com";
+            call("POST /api/auth/signup", post("/api/auth/signup",
+                    "{\"email\":\"" + email + "\",\"password\":\"1234\",\"name\":\"" + name + "\"}"));
+            call("POST /api/auth/login", post("/api/auth/login",
+                    "{\"email\":\"" + email + "\",\"password\":\"1234\"}"));
+
+            String[][] beverages = {{"아메리카노", "AMERICANO", "150.0"}, {"라떼", "LATTE", "75.0"}, {"콜드브루", "COLD_BREW", "200.0"}};
+            for (String[] beverage : beverages) {
+                JsonNode created = call("POST /api/beverages/custom", post("/api/beverages/custom",
+                        "{\"name\":\"" + beverage[0] + "\",\"category\":\"" + beverage[1]
+                                + "\",\"volumeMl\":355,\"caffeineMg\":" + beverage[2] + "}"));
+                long beverageId = created.get("id").asLong();
+                customBeverageIds.add(beverageId);
+                JsonNode favorite = call("POST /api/favorites", post("/api/favorites",
+                        "{\"type\":\"CUSTOM\",\"beverageId\":" + beverageId + "}"));
+                favoriteIds.add(favorite.get("id").asLong());
+            }
+        }
+
+        // 첫 화면
+        private void openApp() throws Exception {
+            call("GET /api/dashboard", get("/api/dashboard?hours=12"));
+            call("GET /api/favorites", get("/api/favorites"));
+            call("GET /api/beverages/categories", get("/api/beverages/categories"));
+            call("GET /api/beverages/custom", get("/api/beverages/custom"));
+        }
+
+        // app.js startPolling
+        private void poll() throws Exception {
+            call("GET /api/caffeine/status", get("/api/caffeine/status"));
+            call("GET /api/statistics/timeline", get("/api/statistics/timeline?hours=12"));
+        }
+
+        // 기록 12%, 삭제 3%, 순서 변경 5%, 통계 10%, 음료 확인 10%, 나머지는 화면만 보고 있음
+        private void act(int dice) throws Exception {
+            if (dice < 12) {
+                recordIntake();
+            } else if (dice < 15) {
+                deleteLatestIntake();
+            } else if (dice < 20) {
+                reorderFavorites();
+            } else if (dice < 30) {
+                call("GET /api/statistics/daily", get("/api/statistics/daily?days=7"));
+                call("GET /api/statistics/top-beverages", get("/api/statistics/top-beverages?days=7"));
+            } else if (dice < 40) {
+                long beverageId = customBeverageIds.get(random.nextInt(customBeverageIds.size()));
+                call("POST /api/caffeine/check/custom/{id}", post("/api/caffeine/check/custom/" + beverageId, ""));
+            }
+        }
+
+        // 기록 후 화면 갱신까지
+        private void recordIntake() throws Exception {
+            String consumedAt = "{\"consumedAt\":\"" + LocalDateTime.now().withNano(0) + "\"}";
+            if (random.nextBoolean()) {
+                long favoriteId = favoriteIds.get(random.nextInt(favoriteIds.size()));
+                call("POST /api/favorites/{id}/intake", post("/api/favorites/" + favoriteId + "/intake", consumedAt));
+            } else {
+                long beverageId = customBeverageIds.get(random.nextInt(customBeverageIds.size()));
+                call("POST /api/intakes/custom/{id}", HttpRequest.newBuilder(uri("/api/intakes/custom/" + beverageId))
+                        .header("Content-Type", "application/json")
+                        .header("Idempotency-Key", UUID.randomUUID().toString())
+                        .POST(HttpRequest.BodyPublishers.ofString(consumedAt))
+                        .build());
+            }
+            call("GET /api/intakes/today", get("/api/intakes/today"));
+            poll();
+        }
+
+        private void deleteLatestIntake() throws Exception {
+            JsonNode today = call("GET /api/intakes/today", get("/api/intakes/today"));
+            if (today == null || today.isEmpty()) {
+                return;
+            }
+            long intakeId = today.get(today.size() - 1).get("id").asLong();
+            call("DELETE /api/intakes/{id}", HttpRequest.newBuilder(uri("/api/intakes/" + intakeId)).DELETE().build());
+            poll();
+        }
+
+        private void reorderFavorites() throws Exception {
+            Collections.shuffle(favoriteIds, random);
+            call("PUT /api/favorites/order", HttpRequest.newBuilder(uri("/api/favorites/order"))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                            Map.of("favoriteIds", favoriteIds))))
+                    .build());
+            call("GET /api/favorites", get("/api/favorites"));
+        }
+
+        private JsonNode call(String endpoint, HttpRequest request) throws Exception {
+            long start = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                recorder.error(endpoint);
+                return null;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (response.statusCode() >= 400) {
+                recorder.error(endpoint);
+                return null;
+            }
+            recorder.record(endpoint, elapsed);
+            String body = response.body();
+            return body == null || body.isBlank() ? null : objectMapper.readTree(body);
+        }
+
+        private int thinkTime() {
+            return THINK_MIN_MILLIS + random.nextInt(Math.max(THINK_MAX_MILLIS - THINK_MIN_MILLIS, 1));
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(uri(path)).GET().build();
+        }
+
+        private HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private URI uri(String path) {
+            return URI.create(baseUrl + path);
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+
+    private static final class Recorder {
+
+        private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+
+        void record(String endpoint, long nanos) {
+            latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+        }
+
+        void error(String endpoint) {
+            errors.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+        }
+
+        Map<String, EndpointResult> byEndpoint(int durationSeconds) {
+            Map<String, EndpointResult> results = new TreeMap<>();
+            latencies.forEach((endpoint, values) -> results.put(endpoint, EndpointResult.of(
+                    endpoint, sorted(values), errorsOf(endpoint), durationSeconds)));
+            errors.keySet().stream()
+                    .filter(endpoint -> !latencies.containsKey(endpoint))
+                    .forEach(endpoint -> results.put(endpoint, EndpointResult.of(
+                            endpoint, new long[0], errorsOf(endpoint), durationSeconds)));
+            return results;
+        }
+
+        EndpointResult total(int durationSeconds) {
+            long[] all = latencies.values().stream()
+                    .flatMap(ConcurrentLinkedQueue::stream)
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            long totalErrors = errors.values().stream().mapToLong(AtomicLong::get).sum();
+            return EndpointResult.of("total", all, totalErrors, durationSeconds);
+        }
+
+        private long errorsOf(String endpoint) {
+            AtomicLong count = errors.get(endpoint);
+            return count == null ? 0 : count.get();
+        }
+
+        private static long[] sorted(ConcurrentLinkedQueue<Long> values) {
+            long[] array = values.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(array);
+            return array;
+        }
+    }
+
+    private record EndpointResult(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+        static EndpointResult of(String endpoint, long[] sortedLatencies, long errors, int durationSeconds) {
+            return new EndpointResult(
+                    endpoint,
+                    sortedLatencies.length,
+                    errors,
+                    (double) sortedLatencies.length / durationSeconds,
+                    percentile(sortedLatencies, 0.50),
+                    percentile(sortedLatencies, 0.95),
+                    percentile(sortedLatencies, 0.99),
+                    percentile(sortedLatencies, 1.0)
+            );
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.hyuns.cafit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hyuns.cafit.CafitApplication;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 / 플랫폼 스레드 요청 처리 모드의 처리량과 지연시간(p50, p99)을 비교한다.
+ * app.js 와 비슷하게 상태/타임라인 폴링 위주로 요청을 보낸다.
+ *
+ * <pre>
+ * ./gradlew virtualThreadBenchmark -Dbenchmark.users=300 -Dbenchmark.durationSeconds=30
+ * </pre>
+ * 결과는 build/reports/benchmark/virtual-threads.json 에 기록된다.
+ */
+@Tag("benchmark")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class VirtualThreadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadBenchmarkTest.class);
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 200);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.durationSeconds", 20);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.poolSize", 10);
+    private static final long SEED = Long.getLong("benchmark.seed", 42L);
+    private static final Path REPORT = Path.of("build", "reports", "benchmark", "virtual-threads.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void 가상_스레드와_플랫폼_스레드의_처리량과_p99를_비교한다() throws Exception {
+        // given & when
+        BenchmarkResult platform = run(false);
+        BenchmarkResult virtual = run(true);
+
+        // then
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", USERS);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("poolSize", POOL_SIZE);
+        report.put("seed", SEED);
+        report.put("platform", platform);
+        report.put("virtual", virtual);
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        assertThat(platform.requests()).isPositive();
+        assertThat(virtual.requests()).isPositive();
+    }
+
+    private BenchmarkResult run(boolean isVirtual) throws Exception {
+        String mode = isVirtual ? "virtual" : "platform";
+        String[] args = {
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + isVirtual,
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.com.hyuns.cafit=WARN"
+        };
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CafitApplication.class).run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            List<VirtualUser> users = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                users.add(VirtualUser.signUp(baseUrl, mode + i, objectMapper));
+            }
+
+            return drive(mode, users);
+        }
+    }
+
+    private BenchmarkResult drive(String mode, List<VirtualUser> users) throws Exception {
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+        long deadline = warmupEnd + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> futures = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users.size(); i++) {
+                VirtualUser user = users.get(i);
+                Random random = new Random(SEED + i);
+                futures.add(clients.submit(() -> user.poll(random, warmupEnd, deadline, errors)));
+            }
+        }
+
+        long[] latencies = futures.stream()
+                .map(VirtualThreadBenchmarkTest::getQuietly)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+
+        return BenchmarkResult.of(mode, latencies, errors.get(), DURATION_SECONDS);
+    }
+
+    private static long[] getQuietly(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VirtualUser(String baseUrl, HttpClient client, long customBeverageId, ObjectMapper objectMapper) {
+
+        static VirtualUser signUp(String baseUrl, String name, ObjectMapper objectMapper) throws Exception {
+            HttpClient client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .build();
+            String email = name + "@bench.com";
+
+            send(client, post(baseUrl + "/api/auth/signup",
+                    "{\"email\":\"" + email + "\",\"password\":\"1234\",\"name\":\"" + name + "\"}"));
+            send(client, post(baseUrl + "/api/auth/login",
+                    "{\"email\":\"" + email + "\",\"password\":\"1234\"}"));
+            String beverage = send(client, post(baseUrl + "/api/beverages/custom",
+                    "{\"name\":\"벤치 아메리카노\",\"category\":\"AMERICANO\",\"volumeMl\":355,\"caffeineMg\":150.0}"));
+
+            long beverageId = objectMapper.readTree(beverage).get("id").asLong();
+            return new VirtualUser(baseUrl, client, beverageId, objectMapper);
+        }
+
+        long[] poll(Random random, long warmupEnd, long deadline, AtomicLong errors) {
+            List<Long> latencies = new ArrayList<>();
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = nextRequest(random.nextInt(100));
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+                long end = System.nanoTime();
+                if (start >= warmupEnd) {
+                    latencies.add(end - start);
+                }
+            }
+            return latencies.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        // 상태 45%, 타임라인 45%, 대시보드 5%, 섭취 기록 5%
+        private HttpRequest nextRequest(int dice) {
+            if (dice < 45) {
+                return get(baseUrl + "/api/caffeine/status");
+            }
+            if (dice < 90) {
+                return get(baseUrl + "/api/statistics/timeline?hours=12");
+            }
+            if (dice < 95) {
+                return get(baseUrl + "/api/dashboard");
+            }
+            return post(baseUrl + "/api/intakes/custom/" + customBeverageId,
+                    "{\"consumedAt\":\"" + LocalDateTime.now().withNano(0) + "\"}");
+        }
+
+        private static HttpRequest get(String url) {
+            return HttpRequest.newBuilder(URI.create(url)).GET().build();
+        }
+
+        private static HttpRequest post(String url, String body) {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private static String send(HttpClient client, HttpRequest request) throws Exception {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException(request.uri() + " -> " + response.statusCode());
+            }
+            return response.body();
+        }
+    }
+
+    private record BenchmarkResult(
+            String mode,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+        static BenchmarkResult of(String mode, long[] sortedLatencies, long errors, int durationSeconds) {
+            return new BenchmarkResult(
+                    mode,
+                    sortedLatencies.length,
+                    errors,
+                    (double) sortedLatencies.length / durationSeconds,
+                    percentile(sortedLatencies, 0.50),
+                    percentile(sortedLatencies, 0.99),
+                    percentile(sortedLatencies, 1.0)
+            );
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hyuns.cafit.context;
 
+import com.hyuns.cafit.application.caffeine.CaffeineLedger;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
@@ -16,6 +17,9 @@ public class CleanupExecutionListener extends AbstractTestExecutionListener impl
         ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
         populator.addScript(new ClassPathResource("sql/cleanup.sql"));
         populator.execute(dataSource);
+
+        // 메모리 원장은 테이블 정리와 무관하게 남으므로 함께 비운다
+        testContext.getApplicationContext().getBean(CaffeineLedger.class).clear();
     }
 
     @Override
@@ -0,0 +1,22 @@
+package com.hyuns.cafit.context;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행된 SQL 문이 value 개를 넘으면 실패시킨다.
+ * 픽스처(@Sql)와 @BeforeEach 는 세지 않으므로, 사용자 조회 같은 준비는 @BeforeEach 에서 한다.
+ * 본문에서 MockMvc 로 요청하면 그 요청 전체(작업 스레드로 나눈 조회 포함)가 같은 집계에 더해진다.
+ * cafit.metrics.query-count=true (테스트 기본값) 일 때만 동작한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int value();
+}
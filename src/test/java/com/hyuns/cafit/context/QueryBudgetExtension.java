@@ -0,0 +1,28 @@
+package com.hyuns.cafit.context;
+
+import com.hyuns.cafit.global.metrics.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long executed = QueryCounter.current().getCount();
+        QueryCounter.clear();
+
+        int budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).value();
+        if (executed > budget) {
+            throw new AssertionFailedError(
+                    "쿼리 예산 초과: " + executed + "건 실행 (허용 " + budget + "건)", budget, executed
+            );
+        }
+    }
+}
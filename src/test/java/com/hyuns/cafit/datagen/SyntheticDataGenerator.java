@@ -0,0 +1,202 @@
+package com.hyuns.cafit.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * 시드만으로 결정되는 합성 사용자/섭취 데이터.
+ * 사용자마다 (seed, userId) 로 난수기를 만들기 때문에 몇 개의 스레드로 어떤 순서로 만들어도 같은 행이 나온다.
+ *
+ * <ul>
+ *     <li>활동량: 사용자별 로그정규 가중치 (평균 = intakes / users)</li>
+ *     <li>하루 리듬: 출근/점심 후 봉우리, 주말은 한 시간 늦게</li>
+ *     <li>음료 인기: 프리셋 순위에 Zipf(s) 분포, 사용자마다 단골 음료 3개를 절반 이상 마신다</li>
+ * </ul>
+ * 섭취 id 는 userId * 10000 + 순번이라 사용자당 최대 9999건이다.
+ */
+final class SyntheticDataGenerator {
+
+    static final int MAX_INTAKES_PER_USER = 9_999;
+    static final String PASSWORD_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+    private static final double ACTIVITY_SIGMA = 0.8;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int FAVORITES_PER_USER = 3;
+    private static final double FAVORITE_SHARE = 0.6;
+
+    // 0시 ~ 23시 평일 섭취 비중
+    private static final double[] WEEKDAY_HOURS = {
+            0.8, 0.4, 0.2, 0.1, 0.1, 0.3, 2.0, 6.0, 10.0, 9.0, 6.0, 5.0,
+            6.0, 8.0, 9.0, 7.0, 5.0, 3.0, 2.0, 2.0, 1.5, 1.2, 1.0, 0.9
+    };
+    private static final double[] WEEKEND_HOURS = shiftByOneHour(WEEKDAY_HOURS);
+
+    private final long seed;
+    private final List<Preset> presets;
+    private final double[] presetCumulative;
+    private final double intakesPerUser;
+    private final LocalDate endDate;
+    private final int days;
+
+    SyntheticDataGenerator(long seed, List<Preset> presets, long users, long intakes, LocalDate endDate, int days) {
+        this.seed = seed;
+        this.presets = popularityOrder(presets, seed);
+        this.presetCumulative = zipfCumulative(this.presets.size());
+        this.intakesPerUser = (double) intakes / users;
+        this.endDate = endDate;
+        this.days = days;
+    }
+
+    record Preset(long id, String name, String brandName, String category, int volumeMl, double caffeineMg) {
+    }
+
+    record UserRow(
+            long id,
+            String email,
+            String name,
+            int dailyCaffeineLimit,
+            double caffeineHalfLife,
+            LocalTime bedTime,
+            double targetSleepCaffeine,
+            LocalDateTime createdAt
+    ) {
+    }
+
+    record IntakeRow(long id, long userId, Preset preset, LocalDateTime consumedAt) {
+    }
+
+    UserRow user(long userId) {
+        SplittableRandom random = randomFor(userId, 0);
+        LocalDate joinedOn = endDate.minusDays(7 + random.nextInt(Math.max(days - 7, 1)));
+        return new UserRow(
+                userId,
+                "synthetic-" + userId + "@cafit.test",
+                "사용자" + userId,
+                300 + random.nextInt(5) * 50,
+                4.0 + random.nextInt(5) * 0.5,
+                LocalTime.of(22, 0).plusMinutes(random.nextInt(7) * 30L),
+                50.0,
+                joinedOn.atTime(LocalTime.ofSecondOfDay(random.nextInt(86_400)))
+        );
+    }
+
+    /**
+     * 가입일부터 endDate 까지의 섭취 기록을 consumedAt 오름차순으로 넘긴다.
+     */
+    void forEachIntake(UserRow user, Consumer<IntakeRow> consumer) {
+        SplittableRandom random = randomFor(user.id(), 1);
+        int count = intakeCount(random);
+        LocalDate firstDay = user.createdAt().toLocalDate();
+        int activeDays = (int) (endDate.toEpochDay() - firstDay.toEpochDay()) + 1;
+
+        Preset[] favorites = new Preset[FAVORITES_PER_USER];
+        for (int i = 0; i < favorites.length; i++) {
+            favorites[i] = popularPreset(random);
+        }
+
+        List<IntakeRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate day = firstDay.plusDays(random.nextInt(activeDays));
+            LocalDateTime consumedAt = day.atTime(hourOf(day, random), random.nextInt(60), random.nextInt(60));
+            if (consumedAt.isBefore(user.createdAt())) {
+                consumedAt = user.createdAt().plusMinutes(random.nextInt(60));
+            }
+            Preset preset = random.nextDouble() < FAVORITE_SHARE
+                    ? favorites[random.nextInt(favorites.length)]
+                    : popularPreset(random);
+            rows.add(new IntakeRow(0, user.id(), preset, consumedAt));
+        }
+
+        rows.sort(Comparator.comparing(IntakeRow::consumedAt));
+        for (int i = 0; i < rows.size(); i++) {
+            IntakeRow row = rows.get(i);
+            consumer.accept(new IntakeRow(user.id() * 10_000 + i + 1, row.userId(), row.preset(), row.consumedAt()));
+        }
+    }
+
+    // 로그정규 가중치의 평균이 1 이 되도록 exp(sigma^2 / 2) 로 나눈다
+    private int intakeCount(SplittableRandom random) {
+        double weight = Math.exp(ACTIVITY_SIGMA * gaussian(random) - ACTIVITY_SIGMA * ACTIVITY_SIGMA / 2);
+        return (int) Math.min(Math.round(intakesPerUser * weight), MAX_INTAKES_PER_USER);
+    }
+
+    private int hourOf(LocalDate day, SplittableRandom random) {
+        boolean isWeekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+        double[] weights = isWeekend ? WEEKEND_HOURS : WEEKDAY_HOURS;
+        double total = Arrays.stream(weights).sum();
+        double target = random.nextDouble() * total;
+        for (int hour = 0; hour < weights.length; hour++) {
+            target -= weights[hour];
+            if (target < 0) {
+                return hour;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private Preset popularPreset(SplittableRandom random) {
+        int index = Arrays.binarySearch(presetCumulative, random.nextDouble());
+        return presets.get(index >= 0 ? index : Math.min(-index - 1, presets.size() - 1));
+    }
+
+    private SplittableRandom randomFor(long userId, int stream) {
+        return new SplittableRandom(mix(seed ^ mix(userId * 31 + stream)));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    // 테이블 순서가 곧 인기 순위가 되지 않도록 시드로 섞는다
+    private static List<Preset> popularityOrder(List<Preset> presets, long seed) {
+        List<Preset> ordered = new ArrayList<>(presets);
+        ordered.sort(Comparator.comparingLong(Preset::id));
+        SplittableRandom random = new SplittableRandom(mix(seed));
+        for (int i = ordered.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Preset swap = ordered.get(i);
+            ordered.set(i, ordered.get(j));
+            ordered.set(j, swap);
+        }
+        return List.copyOf(ordered);
+    }
+
+    private static double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static double[] shiftByOneHour(double[] weights) {
+        double[] shifted = new double[weights.length];
+        for (int hour = 0; hour < weights.length; hour++) {
+            shifted[(hour + 1) % weights.length] = weights[hour];
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hyuns.cafit.datagen;
+
+import com.hyuns.cafit.datagen.SyntheticDataGenerator.IntakeRow;
+import com.hyuns.cafit.datagen.SyntheticDataGenerator.Preset;
+import com.hyuns.cafit.datagen.SyntheticDataGenerator.UserRow;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2026, 1, 1);
+    private static final List<Preset> PRESETS = LongStream.rangeClosed(1, 20)
+            .mapToObj(id -> new Preset(id, "음료" + id, "브랜드", "COFFEE", 355, 100 + id))
+            .toList();
+
+    @Test
+    void 같은_시드면_생성_순서와_관계없이_같은_행이_나온다() {
+        // given
+        SyntheticDataGenerator first = new SyntheticDataGenerator(7L, PRESETS, 1_000, 50_000, END_DATE, 90);
+        SyntheticDataGenerator second = new SyntheticDataGenerator(7L, PRESETS, 1_000, 50_000, END_DATE, 90);
+
+        // when
+        List<IntakeRow> forward = intakesOf(first, 1, 2, 3);
+        List<IntakeRow> backward = intakesOf(second, 3, 2, 1);
+        backward.sort(Comparator.comparingLong(IntakeRow::id));
+
+        // then
+        assertAll(
+                () -> assertThat(first.user(2)).isEqualTo(second.user(2)),
+                () -> assertThat(forward).isEqualTo(backward),
+                () -> assertThat(intakesOf(new SyntheticDataGenerator(8L, PRESETS, 1_000, 50_000, END_DATE, 90), 1, 2, 3))
+                        .isNotEqualTo(forward)
+        );
+    }
+
+    @Test
+    void 섭취_기록은_가입_이후_시간순이고_인기_음료와_낮_시간대에_몰린다() {
+        // given
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42L, PRESETS, 100, 20_000, END_DATE, 90);
+
+        // when
+        List<IntakeRow> intakes = new ArrayList<>();
+        for (long userId = 1; userId <= 100; userId++) {
+            UserRow user = generator.user(userId);
+            List<IntakeRow> rows = intakesOf(generator, userId);
+            assertThat(rows).isSortedAccordingTo(Comparator.comparing(IntakeRow::consumedAt));
+            assertThat(rows).allSatisfy(row -> assertThat(row.consumedAt()).isAfterOrEqualTo(user.createdAt()));
+            intakes.addAll(rows);
+        }
+        Map<Preset, Long> byPreset = intakes.stream()
+                .collect(Collectors.groupingBy(IntakeRow::preset, Collectors.counting()));
+        long daytime = intakes.stream().filter(row -> row.consumedAt().getHour() >= 7 && row.consumedAt().getHour() < 19).count();
+
+        // then
+        assertAll(
+                () -> assertThat(intakes).hasSizeBetween(12_000, 28_000),
+                () -> assertThat(intakes.stream().map(IntakeRow::id).distinct().count()).isEqualTo(intakes.size()),
+                () -> assertThat(byPreset.values().stream().max(Long::compare).orElseThrow())
+                        .isGreaterThan(intakes.size() / PRESETS.size() * 3L),
+                () -> assertThat(daytime).isGreaterThan(intakes.size() * 7L / 10)
+        );
+    }
+
+    private List<IntakeRow> intakesOf(SyntheticDataGenerator generator, long... userIds) {
+        List<IntakeRow> rows = new ArrayList<>();
+        for (long userId : userIds) {
+            generator.forEachIntake(generator.user(userId), rows::add);
+        }
+        return rows;
+    }
+}
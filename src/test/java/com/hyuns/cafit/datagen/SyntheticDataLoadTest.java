@@ -0,0 +1,293 @@
+package com.hyuns.cafit.datagen;
+
+import com.hyuns.cafit.datagen.SyntheticDataGenerator.IntakeRow;
+import com.hyuns.cafit.datagen.SyntheticDataGenerator.Preset;
+import com.hyuns.cafit.datagen.SyntheticDataGenerator.UserRow;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SyntheticDataGenerator} 로 만든 사용자/섭취 기록을 DB 에 적재한다.
+ * preset_beverages 는 data.sql 로 이미 들어가 있어야 한다.
+ *
+ * <pre>
+ * ./gradlew syntheticData                                          # 1M 사용자, 200M 섭취, dev MySQL
+ * ./gradlew syntheticData -Ddatagen.users=10000 -Ddatagen.intakes=2000000 -Ddatagen.seed=7
+ * ./gradlew syntheticData -Ddatagen.mode=csv                       # LOAD DATA 용 CSV 만 생성
+ * </pre>
+ * jdbc 모드는 사용자 id 구간을 스레드마다 나눠 batchSize 단위로 executeBatch + commit 한다.
+ * MySQL 이면 rewriteBatchedStatements 로 multi-row INSERT 가 되고, 적재 중에는 FK/UNIQUE 검사를 끈다.
+ * csv 모드는 build/datagen 에 스레드별 파일과 LOAD DATA LOCAL INFILE 문(load.sql)을 남긴다.
+ * 같은 seed / users / intakes / endDate / days 면 스레드 수와 관계없이 같은 행이 만들어진다.
+ */
+@Tag("datagen")
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SyntheticDataLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoadTest.class);
+
+    private static final String JDBC_URL = System.getProperty("datagen.jdbcUrl",
+            "jdbc:mysql://localhost:3306/cafit_dev?useSSL=false&allowPublicKeyRetrieval=true"
+                    + "&serverTimezone=Asia/Seoul&rewriteBatchedStatements=true");
+    private static final String USERNAME = System.getProperty("datagen.username",
+            System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "root"));
+    private static final String PASSWORD = System.getProperty("datagen.password",
+            System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", ""));
+    private static final String MODE = System.getProperty("datagen.mode", "jdbc");
+    private static final long USERS = Long.getLong("datagen.users", 1_000_000L);
+    private static final long INTAKES = Long.getLong("datagen.intakes", 200_000_000L);
+    private static final long USER_ID_OFFSET = Long.getLong("datagen.userIdOffset", 1_000_000L);
+    private static final long SEED = Long.getLong("datagen.seed", 42L);
+    private static final LocalDate END_DATE = LocalDate.parse(System.getProperty("datagen.endDate", "2026-01-01"));
+    private static final int DAYS = Integer.getInteger("datagen.days", 365);
+    private static final int THREADS = Integer.getInteger("datagen.threads", 8);
+    private static final int BATCH_SIZE = Integer.getInteger("datagen.batchSize", 5_000);
+    private static final Path CSV_DIR = Path.of(System.getProperty("datagen.csvDir", "build/datagen"));
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, email, password, name, daily_caffeine_limit, caffeine_half_life,
+                               bed_time, target_sleep_caffeine, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_INTAKE = """
+            INSERT INTO caffeine_intakes (id, user_id, beverage_name, brand_name, category, volume_ml,
+                                          caffeine_mg, consumed_at, source_type, source_beverage_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'PRESET', ?)
+            """;
+    private static final DateTimeFormatter CSV_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final AtomicLong insertedUsers = new AtomicLong();
+    private final AtomicLong insertedIntakes = new AtomicLong();
+
+    @Test
+    void 시드로_정해진_합성_사용자와_섭취_기록을_적재한다() throws Exception {
+        // given
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                SEED, loadPresets(), USERS, INTAKES, END_DATE, DAYS
+        );
+        long startedAt = System.nanoTime();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < THREADS; worker++) {
+                int index = worker;
+                workers.add(executor.submit(() -> {
+                    if (MODE.equals("csv")) {
+                        writeCsv(generator, index);
+                    } else {
+                        insertBatches(generator, index);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        if (MODE.equals("csv")) {
+            writeLoadScript();
+        }
+
+        // then
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        log.info("mode={} users={} intakes={} {}s ({} rows/s)",
+                MODE, insertedUsers.get(), insertedIntakes.get(), Math.round(seconds),
+                Math.round((insertedUsers.get() + insertedIntakes.get()) / seconds));
+        assertThat(insertedUsers.get()).isEqualTo(USERS);
+    }
+
+    private List<Preset> loadPresets() throws SQLException {
+        List<Preset> presets = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT id, name, brand_name, category, volume_ml, caffeine_mg FROM preset_beverages")) {
+            while (resultSet.next()) {
+                presets.add(new Preset(
+                        resultSet.getLong("id"),
+                        resultSet.getString("name"),
+                        resultSet.getString("brand_name"),
+                        resultSet.getString("category"),
+                        resultSet.getInt("volume_ml"),
+                        resultSet.getDouble("caffeine_mg")
+                ));
+            }
+        }
+        assertThat(presets).as("preset_beverages 가 비어 있다 (data.sql 적재 필요)").isNotEmpty();
+        return presets;
+    }
+
+    // 사용자 id 를 THREADS 간격으로 나눠 맡는다
+    private void insertBatches(SyntheticDataGenerator generator, int worker) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement users = connection.prepareStatement(INSERT_USER);
+             PreparedStatement intakes = connection.prepareStatement(INSERT_INTAKE)) {
+            connection.setAutoCommit(false);
+            disableChecks(connection);
+
+            int pending = 0;
+            for (long n = worker; n < USERS; n += THREADS) {
+                UserRow user = generator.user(USER_ID_OFFSET + n + 1);
+                bindUser(users, user);
+                users.addBatch();
+                List<IntakeRow> rows = new ArrayList<>();
+                generator.forEachIntake(user, rows::add);
+                for (IntakeRow row : rows) {
+                    bindIntake(intakes, row);
+                    intakes.addBatch();
+                }
+                pending += 1 + rows.size();
+                insertedUsers.incrementAndGet();
+                insertedIntakes.addAndGet(rows.size());
+
+                if (pending >= BATCH_SIZE) {
+                    flush(connection, users, intakes);
+                    pending = 0;
+                }
+            }
+            flush(connection, users, intakes);
+        }
+    }
+
+    // users 를 먼저 보내야 FK 검사를 켠 DB 에서도 통과한다
+    private void flush(Connection connection, PreparedStatement users, PreparedStatement intakes) throws SQLException {
+        users.executeBatch();
+        intakes.executeBatch();
+        connection.commit();
+    }
+
+    private void bindUser(PreparedStatement statement, UserRow user) throws SQLException {
+        statement.setLong(1, user.id());
+        statement.setString(2, user.email());
+        statement.setString(3, SyntheticDataGenerator.PASSWORD_HASH);
+        statement.setString(4, user.name());
+        statement.setInt(5, user.dailyCaffeineLimit());
+        statement.setDouble(6, user.caffeineHalfLife());
+        statement.setObject(7, user.bedTime());
+        statement.setDouble(8, user.targetSleepCaffeine());
+        statement.setTimestamp(9, Timestamp.valueOf(user.createdAt()));
+        statement.setTimestamp(10, Timestamp.valueOf(user.createdAt()));
+    }
+
+    private void bindIntake(PreparedStatement statement, IntakeRow row) throws SQLException {
+        Preset preset = row.preset();
+        statement.setLong(1, row.id());
+        statement.setLong(2, row.userId());
+        statement.setString(3, preset.name());
+        statement.setString(4, preset.brandName());
+        statement.setString(5, preset.category());
+        statement.setInt(6, preset.volumeMl());
+        statement.setDouble(7, preset.caffeineMg());
+        statement.setTimestamp(8, Timestamp.valueOf(row.consumedAt()));
+        statement.setLong(9, preset.id());
+    }
+
+    private void writeCsv(SyntheticDataGenerator generator, int worker) throws IOException {
+        Files.createDirectories(CSV_DIR);
+        try (BufferedWriter users = Files.newBufferedWriter(CSV_DIR.resolve("users-" + worker + ".csv"));
+             BufferedWriter intakes = Files.newBufferedWriter(CSV_DIR.resolve("intakes-" + worker + ".csv"))) {
+            for (long n = worker; n < USERS; n += THREADS) {
+                UserRow user = generator.user(USER_ID_OFFSET + n + 1);
+                String createdAt = CSV_TIME.format(user.createdAt());
+                users.write(String.join(",",
+                        String.valueOf(user.id()), user.email(), SyntheticDataGenerator.PASSWORD_HASH, user.name(),
+                        String.valueOf(user.dailyCaffeineLimit()), String.valueOf(user.caffeineHalfLife()),
+                        user.bedTime().toString(), String.valueOf(user.targetSleepCaffeine()), createdAt, createdAt));
+                users.newLine();
+
+                long[] count = new long[1];
+                generator.forEachIntake(user, row -> {
+                    try {
+                        writeIntake(intakes, row);
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                insertedUsers.incrementAndGet();
+                insertedIntakes.addAndGet(count[0]);
+            }
+        }
+    }
+
+    private void writeIntake(BufferedWriter writer, IntakeRow row) throws IOException {
+        Preset preset = row.preset();
+        writer.write(String.join(",",
+                String.valueOf(row.id()), String.valueOf(row.userId()), quote(preset.name()), quote(preset.brandName()),
+                preset.category(), String.valueOf(preset.volumeMl()), String.valueOf(preset.caffeineMg()),
+                CSV_TIME.format(row.consumedAt()), "PRESET", String.valueOf(preset.id())));
+        writer.newLine();
+    }
+
+    private void writeLoadScript() throws IOException {
+        StringBuilder script = new StringBuilder("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\n");
+        for (int worker = 0; worker < THREADS; worker++) {
+            script.append(loadData("users-" + worker + ".csv", "users",
+                    "id, email, password, name, daily_caffeine_limit, caffeine_half_life, "
+                            + "bed_time, target_sleep_caffeine, created_at, updated_at"));
+        }
+        for (int worker = 0; worker < THREADS; worker++) {
+            script.append(loadData("intakes-" + worker + ".csv", "caffeine_intakes",
+                    "id, user_id, beverage_name, brand_name, category, volume_ml, "
+                            + "caffeine_mg, consumed_at, source_type, source_beverage_id"));
+        }
+        script.append("SET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+        Files.writeString(CSV_DIR.resolve("load.sql"), script);
+        log.info("mysql --local-infile=1 < {}", CSV_DIR.resolve("load.sql").toAbsolutePath());
+    }
+
+    private String loadData(String file, String table, String columns) {
+        return "LOAD DATA LOCAL INFILE '" + CSV_DIR.resolve(file).toAbsolutePath() + "' INTO TABLE " + table
+                + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'"
+                + " (" + columns + ");\n";
+    }
+
+    private static String quote(String value) {
+        return value.contains(",") || value.contains("\"")
+                ? "\"" + value.replace("\"", "\"\"") + "\""
+                : value;
+    }
+
+    private void disableChecks(Connection connection) throws SQLException {
+        if (!JDBC_URL.startsWith("jdbc:mysql:")) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("SET UNIQUE_CHECKS = 0");
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(JDBC_URL, USERNAME, PASSWORD);
+    }
+}
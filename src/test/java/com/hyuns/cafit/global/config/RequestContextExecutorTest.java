@@ -0,0 +1,84 @@
+package com.hyuns.cafit.global.config;
+
+import com.hyuns.cafit.global.datasource.PrimaryPinning;
+import com.hyuns.cafit.global.metrics.QueryCounter;
+import com.hyuns.cafit.global.metrics.ReadOnlySessionStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class RequestContextExecutorTest {
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPinning.clear();
+        ReadOnlySessionStats.clear();
+        QueryCounter.clear();
+    }
+
+    @Test
+    void 요청_스레드의_primary_고정_여부를_작업_스레드로_옮기고_끝나면_지운다() {
+        // given
+        PrimaryPinning.set(true);
+
+        try (RequestContextExecutor executor = new RequestContextExecutor(Executors.newSingleThreadExecutor())) {
+            // when
+            boolean pinnedInTask = CompletableFuture.supplyAsync(PrimaryPinning::isPinned, executor).join();
+            PrimaryPinning.clear();
+            boolean pinnedAfterTask = CompletableFuture.supplyAsync(PrimaryPinning::isPinned, executor).join();
+
+            // then
+            assertAll(
+                    () -> assertThat(pinnedInTask).isTrue(),
+                    () -> assertThat(pinnedAfterTask).isFalse()
+            );
+        }
+    }
+
+    @Test
+    void 작업_스레드의_로드도_요청의_read_only_집계에_더해진다() {
+        // given
+        ReadOnlySessionStats stats = ReadOnlySessionStats.start();
+
+        try (RequestContextExecutor executor = new RequestContextExecutor(Executors.newSingleThreadExecutor())) {
+            // when
+            CompletableFuture.runAsync(() -> ReadOnlySessionStats.current().recordSnapshot(), executor).join();
+            ReadOnlySessionStats.clear();
+            ReadOnlySessionStats afterTask = CompletableFuture.supplyAsync(ReadOnlySessionStats::current, executor).join();
+
+            // then
+            assertAll(
+                    () -> assertThat(stats.getSnapshotEntities()).isEqualTo(1),
+                    () -> assertThat(afterTask).isNull()
+            );
+        }
+    }
+
+    @Test
+    void 작업_스레드의_SQL_문도_요청의_쿼리_수에_더해진다() {
+        // given
+        QueryCounter counter = QueryCounter.start();
+
+        try (RequestContextExecutor executor = new RequestContextExecutor(Executors.newSingleThreadExecutor())) {
+            // when
+            CompletableFuture.runAsync(() -> QueryCounter.current().increment(), executor).join();
+            QueryCounter.clear();
+            QueryCounter afterTask = CompletableFuture.supplyAsync(QueryCounter::current, executor).join();
+
+            // then
+            assertAll(
+                    () -> assertThat(counter.getCount()).isEqualTo(1),
+                    () -> assertThat(afterTask).isNull()
+            );
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.hyuns.cafit.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hyuns.cafit.application.beverage.PresetBeverageService;
+import com.hyuns.cafit.application.beverage.dto.PresetBeverageResponse;
+import com.hyuns.cafit.context.IntegrationTest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 두 개의 H2 인메모리 DB 를 primary / replica 로 사용한다.
+ * replica 에만 있는 음료가 보이면 replica 에서 읽은 것이다.
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "cafit.datasource.replica.enabled=true",
+        "cafit.datasource.replica.hikari.jdbc-url=jdbc:h2:mem:cafit-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "cafit.datasource.replica.hikari.username=sa",
+        "cafit.datasource.replica.max-lag=2s",
+        "cafit.datasource.replica.heartbeat-interval=1h"
+})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ReplicationRoutingDataSourceTest {
+
+    @Autowired
+    private PresetBeverageService presetBeverageService;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("sql/schema.sql"),
+                new ClassPathResource("sql/cleanup.sql")
+        ).execute(replicaDataSource);
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.update("""
+                INSERT INTO preset_beverages (id, name, brand_name, category, volume_ml, caffeine_mg)
+                VALUES (1, 'replica 아메리카노', '스타벅스', 'AMERICANO', 355, 150.0)
+                """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPinning.clear();
+    }
+
+    @Test
+    void replica가_최신이면_읽기_전용_트랜잭션은_replica에서_읽는다() {
+        // given
+        beatReplica(LocalDateTime.now());
+        replicaLagMonitor.refresh();
+
+        // when
+        List<PresetBeverageResponse> beverages = presetBeverageService.getAllBeverages();
+
+        // then
+        assertThat(beverages).extracting(PresetBeverageResponse::name).containsExactly("replica 아메리카노");
+    }
+
+    @Test
+    void primary로_고정된_요청은_primary에서_읽는다() {
+        // given
+        beatReplica(LocalDateTime.now());
+        replicaLagMonitor.refresh();
+        PrimaryPinning.set(true);
+
+        // when
+        List<PresetBeverageResponse> beverages = presetBeverageService.getAllBeverages();
+
+        // then
+        assertThat(beverages).isEmpty();
+    }
+
+    @Test
+    void replica_지연이_허용치를_넘으면_primary에서_읽는다() {
+        // given
+        beatReplica(LocalDateTime.now().minusSeconds(10));
+        replicaLagMonitor.refresh();
+
+        // when
+        List<PresetBeverageResponse> beverages = presetBeverageService.getAllBeverages();
+
+        // then
+        assertThat(beverages).isEmpty();
+    }
+
+    private void beatReplica(LocalDateTime beatAt) {
+        replica.update(
+                "MERGE INTO replication_heartbeat (id, beat_at) KEY (id) VALUES (1, ?)",
+                Timestamp.valueOf(beatAt)
+        );
+    }
+}
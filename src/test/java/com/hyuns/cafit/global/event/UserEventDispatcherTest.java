@@ -0,0 +1,113 @@
+package com.hyuns.cafit.global.event;
+
+import com.hyuns.cafit.domain.favorite.event.FavoriteChanged;
+import com.hyuns.cafit.domain.intake.event.IntakesImported;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class UserEventDispatcherTest {
+
+    @Test
+    void 같은_사용자의_이벤트는_발행_순서대로_처리된다() throws Exception {
+        // given
+        List<Long> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(200);
+        UserEventDispatcher dispatcher = dispatcher(event -> {
+            if (event.userId() == 1L) {
+                handled.add(((IntakesImported) event).importedRows());
+            }
+            done.countDown();
+        }, 4, 1024);
+
+        // when
+        for (long i = 0; i < 100; i++) {
+            dispatcher.on(new IntakesImported(1L, i));
+            dispatcher.on(new IntakesImported(2L, i));
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).isSorted().hasSize(100);
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void 큐가_가득_차면_잠시_기다린_뒤_버리고_센다() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        UserEventDispatcher dispatcher = dispatcher(event -> {
+            started.countDown();
+            await(release);
+        }, 1, 1);
+        dispatcher.on(FavoriteChanged.reordered(1L));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        dispatcher.on(FavoriteChanged.reordered(1L));
+        dispatcher.on(FavoriteChanged.reordered(1L));
+        UserEventDispatchStats stats = dispatcher.stats();
+        release.countDown();
+
+        // then
+        assertAll(
+                () -> assertThat(stats.submitted()).isEqualTo(3),
+                () -> assertThat(stats.blocked()).isEqualTo(1),
+                () -> assertThat(stats.dropped()).isEqualTo(1),
+                () -> assertThat(stats.queued()).isEqualTo(1),
+                () -> assertThat(stats.blockedTime()).isPositive()
+        );
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void 처리기가_실패해도_다음_이벤트는_처리된다() throws Exception {
+        // given
+        CountDownLatch done = new CountDownLatch(2);
+        UserEventDispatcher dispatcher = dispatcher(event -> {
+            done.countDown();
+            throw new IllegalStateException("실패");
+        }, 1, 16);
+
+        // when
+        dispatcher.on(FavoriteChanged.reordered(1L));
+        dispatcher.on(FavoriteChanged.reordered(1L));
+        done.await(5, TimeUnit.SECONDS);
+        dispatcher.shutdown();
+
+        // then
+        assertAll(
+                () -> assertThat(dispatcher.stats().failed()).isEqualTo(2),
+                () -> assertThat(dispatcher.stats().completed()).isEqualTo(2)
+        );
+    }
+
+    private UserEventDispatcher dispatcher(UserEventHandler handler, int lanes, int capacity) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("handler", handler);
+        return new UserEventDispatcher(
+                beanFactory.getBeanProvider(UserEventHandler.class), lanes, capacity, Duration.ofMillis(20)
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
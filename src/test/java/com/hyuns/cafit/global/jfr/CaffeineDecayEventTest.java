@@ -0,0 +1,49 @@
+package com.hyuns.cafit.global.jfr;
+
+import com.hyuns.cafit.application.caffeine.CaffeineDecayCalculator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CaffeineDecayEventTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void 녹화_중이면_잔량_계산마다_섭취_기록_수를_남긴다() throws Exception {
+        // given
+        CaffeineDecayCalculator calculator = new CaffeineDecayCalculator();
+        long[] keys = {0L, 60_000_000_000L, 120_000_000_000L};
+        double[] caffeineMg = {150.0, 75.0, 50.0};
+        Path file = directory.resolve("decay.jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable(CaffeineDecayEvent.class);
+            recording.start();
+            calculator.caffeineLevelAt(keys, caffeineMg, 1, 3, LocalDateTime.of(1970, 1, 1, 5, 0), 5.0);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("cafit.CaffeineDecay"))
+                .toList();
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getInt("intakeCount")).isEqualTo(2));
+    }
+}
@@ -0,0 +1,51 @@
+package com.hyuns.cafit.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ReadOnlySessionMetricsFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadOnlySessionMetricsFilter filter = new ReadOnlySessionMetricsFilter(
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class)
+    );
+
+    @Test
+    void 요청별_read_only_엔티티_수를_엔드포인트별_분포로_기록한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/statistics/daily");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/statistics/daily");
+            ReadOnlySessionStats.current().recordSnapshot();
+        });
+
+        // then
+        DistributionSummary snapshots = meterRegistry.find(ReadOnlySessionMetricsFilter.SNAPSHOT_ENTITIES)
+                .tag("uri", "/api/statistics/daily")
+                .summary();
+        assertAll(
+                () -> assertThat(snapshots).isNotNull(),
+                () -> assertThat(snapshots.totalAmount()).isEqualTo(1),
+                () -> assertThat(meterRegistry.find(ReadOnlySessionMetricsFilter.READ_ONLY_ENTITIES).summary())
+                        .isNotNull(),
+                () -> assertThat(ReadOnlySessionStats.current()).isNull()
+        );
+    }
+}
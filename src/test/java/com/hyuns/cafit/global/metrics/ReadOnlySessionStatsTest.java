@@ -0,0 +1,74 @@
+package com.hyuns.cafit.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.hyuns.cafit.application.statistics.CaffeineStatisticsService;
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.intake.repository.CaffeineIntakeRepository;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ReadOnlySessionStatsTest {
+
+    @Autowired
+    private CaffeineStatisticsService caffeineStatisticsService;
+
+    @Autowired
+    private CaffeineIntakeRepository caffeineIntakeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        ReadOnlySessionStats.clear();
+    }
+
+    @Test
+    @Sql("/sql/intake/insert_caffeine_intakes.sql")
+    void 읽기_전용_트랜잭션에서_로드한_엔티티는_스냅샷을_만들지_않는다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        ReadOnlySessionStats stats = ReadOnlySessionStats.start();
+
+        // when
+        caffeineStatisticsService.getDailyStatistics(user, 2);
+
+        // then
+        assertAll(
+                () -> assertThat(stats.getReadOnlyEntities()).isEqualTo(2),
+                () -> assertThat(stats.getSnapshotEntities()).isZero(),
+                () -> assertThat(stats.getSnapshotBytesAvoided()).isPositive()
+        );
+    }
+
+    @Test
+    @Sql("/sql/intake/insert_caffeine_intakes.sql")
+    void 쓰기_트랜잭션에서_로드한_엔티티는_스냅샷을_만든다() {
+        // given
+        ReadOnlySessionStats stats = ReadOnlySessionStats.start();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> caffeineIntakeRepository.findById(1L));
+
+        // then
+        assertAll(
+                () -> assertThat(stats.getReadOnlyEntities()).isZero(),
+                () -> assertThat(stats.getSnapshotEntities()).isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.hyuns.cafit.global.metrics;
+
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class RepositoryMetricsTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @Sql("/sql/auth/insert_user.sql")
+    void 저장소_어댑터_호출_시간을_메서드별로_기록한다() {
+        // given
+        long before = countOf("findById");
+
+        // when
+        userRepository.findById(1L);
+
+        // then
+        Timer timer = meterRegistry.find(RepositoryTimingInterceptor.METRIC_NAME)
+                .tag("repository", "UserRepositoryAdapter")
+                .tag("method", "findById")
+                .timer();
+        assertAll(
+                () -> assertThat(timer).isNotNull(),
+                () -> assertThat(countOf("findById")).isEqualTo(before + 1),
+                () -> assertThat(timer.getId().getTag("exception")).isEqualTo("none")
+        );
+    }
+
+    private long countOf(String method) {
+        Timer timer = meterRegistry.find(RepositoryTimingInterceptor.METRIC_NAME)
+                .tag("repository", "UserRepositoryAdapter")
+                .tag("method", method)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,81 @@
+package com.hyuns.cafit.global.metrics;
+
+import com.hyuns.cafit.global.metrics.RequestAllocationEndpoint.EndpointAllocation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class RequestResourceFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestResourceFilter filter = new RequestResourceFilter(meterRegistry);
+    private final RequestAllocationEndpoint endpoint = new RequestAllocationEndpoint(meterRegistry);
+
+    @Test
+    void 요청_처리_중_할당한_바이트를_uri_패턴별로_기록한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/intakes/1");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), allocating(request, "/api/intakes/{id}", 1_000));
+
+        // then
+        DistributionSummary summary = meterRegistry.find(RequestResourceFilter.ALLOCATED_BYTES)
+                .tag("method", "GET")
+                .tag("uri", "/api/intakes/{id}")
+                .summary();
+        assertAll(
+                () -> assertThat(summary).isNotNull(),
+                () -> assertThat(summary.count()).isEqualTo(1),
+                () -> assertThat(summary.totalAmount()).isGreaterThan(1_000 * 16.0),
+                () -> assertThat(meterRegistry.find(RequestResourceFilter.CPU_TIME).tag("uri", "/api/intakes/{id}").timer())
+                        .isNotNull()
+        );
+    }
+
+    @Test
+    void 누적_할당량이_큰_엔드포인트부터_보여준다() throws Exception {
+        // given
+        MockHttpServletRequest small = new MockHttpServletRequest("GET", "/api/beverages");
+        MockHttpServletRequest large = new MockHttpServletRequest("GET", "/api/statistics/daily");
+        filter.doFilter(small, new MockHttpServletResponse(), allocating(small, "/api/beverages", 10));
+        filter.doFilter(large, new MockHttpServletResponse(), allocating(large, "/api/statistics/daily", 100_000));
+
+        // when
+        List<EndpointAllocation> top = endpoint.topAllocators(1);
+
+        // then
+        assertAll(
+                () -> assertThat(top).hasSize(1),
+                () -> assertThat(top.getFirst().uri()).isEqualTo("/api/statistics/daily"),
+                () -> assertThat(top.getFirst().meanBytes()).isEqualTo(top.getFirst().totalBytes())
+        );
+    }
+
+    // 핸들러 매핑처럼 패턴을 남기고 Object 를 count 개 만든다
+    private FilterChain allocating(MockHttpServletRequest request, String pattern, int count) {
+        return (req, res) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            List<Object> objects = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                objects.add(new Object());
+            }
+            assertThat(objects).hasSize(count);
+        };
+    }
+}
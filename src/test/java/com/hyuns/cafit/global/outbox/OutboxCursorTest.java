@@ -0,0 +1,85 @@
+package com.hyuns.cafit.global.outbox;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OutboxCursorTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void 빈_번호를_남겨두고_뒤의_행을_계속_읽는다() {
+        // given
+        OutboxCursor cursor = new OutboxCursor(10, Duration.ofSeconds(30));
+
+        // when
+        cursor.accept(12, 0);
+        cursor.accept(13, 0);
+        cursor.accept(500, 0);
+
+        // then
+        assertAll(
+                () -> assertThat(cursor.highWater()).isEqualTo(500),
+                () -> assertThat(cursor.gaps()).startsWith(11L, 14L, 15L),
+                () -> assertThat(cursor.pending()).isEqualTo(1 + 486)
+        );
+    }
+
+    @Test
+    void 늦게_커밋된_빈_번호는_다시_읽을_때_처리된다() {
+        // given
+        OutboxCursor cursor = new OutboxCursor(10, Duration.ofSeconds(30));
+        cursor.accept(12, 0);
+
+        // when
+        boolean late = cursor.accept(11, 20 * SECOND);
+
+        // then
+        assertAll(
+                () -> assertThat(late).isTrue(),
+                () -> assertThat(cursor.pending()).isZero(),
+                () -> assertThat(cursor.highWater()).isEqualTo(12)
+        );
+    }
+
+    @Test
+    void 이미_본_번호는_다시_처리하지_않는다() {
+        // given
+        OutboxCursor cursor = new OutboxCursor(10, Duration.ofSeconds(30));
+        cursor.accept(12, 0);
+
+        // when & then
+        assertAll(
+                () -> assertThat(cursor.accept(12, 0)).isFalse(),
+                () -> assertThat(cursor.accept(9, 0)).isFalse()
+        );
+    }
+
+    @Test
+    void 대기_시간을_넘긴_빈_번호만_잊는다() {
+        // given
+        OutboxCursor cursor = new OutboxCursor(10, Duration.ofSeconds(30));
+        cursor.accept(12, 0);
+        cursor.accept(14, 10 * SECOND);
+
+        // when
+        cursor.expire(29 * SECOND);
+        int beforeTimeout = cursor.pending();
+        cursor.expire(30 * SECOND);
+
+        // then
+        assertAll(
+                () -> assertThat(beforeTimeout).isEqualTo(2),
+                () -> assertThat(cursor.gaps()).containsExactly(13L),
+                () -> assertThat(cursor.accept(11, 30 * SECOND)).isFalse()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.hyuns.cafit.global.outbox;
+
+import com.hyuns.cafit.CafitApplication;
+import com.hyuns.cafit.application.caffeine.CaffeineLedger;
+import com.hyuns.cafit.application.intake.CaffeineIntakeService;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 같은 H2 를 공유하는 두 번째 애플리케이션 컨텍스트를 다른 노드로 띄워 확인한다.
+ */
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class OutboxPollerTest {
+
+    @Autowired
+    private CaffeineIntakeService caffeineIntakeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void 섭취를_기록하면_같은_트랜잭션에서_outbox_에_남는다() {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+
+        // when
+        caffeineIntakeService.recordPresetIntake(user, 1L, new CaffeineIntakeCreateRequest(LocalDateTime.now()));
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT event_type FROM outbox WHERE user_id = 1", String.class))
+                .containsExactly("IntakeRecorded");
+    }
+
+    @Test
+    @Sql({"/sql/auth/insert_user.sql", "/sql/beverage/insert_preset_beverages.sql"})
+    void 다른_노드의_변경을_읽으면_로컬_원장을_무효화한다() {
+        try (ConfigurableApplicationContext otherNode = startOtherNode()) {
+            // given
+            CaffeineLedger otherLedger = otherNode.getBean(CaffeineLedger.class);
+            OutboxPoller otherPoller = otherNode.getBean(OutboxPoller.class);
+            User otherNodeUser = otherNode.getBean(UserRepository.class).findById(1L).orElseThrow();
+            otherPoller.poll();
+            double before = otherLedger.snapshot(otherNodeUser).todayTotalMg();
+
+            User user = userRepository.findById(1L).orElseThrow();
+            caffeineIntakeService.recordPresetIntake(user, 1L, new CaffeineIntakeCreateRequest(LocalDateTime.now()));
+
+            // when
+            otherPoller.poll();
+            double after = otherLedger.snapshot(otherNodeUser).todayTotalMg();
+
+            // then
+            assertAll(
+                    () -> assertThat(before).isZero(),
+                    () -> assertThat(after).isPositive()
+            );
+        }
+    }
+
+    private ConfigurableApplicationContext startOtherNode() {
+        return new SpringApplicationBuilder(CafitApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "cafit.outbox.poll-interval=1h")
+                .run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.hyuns.cafit.global.tracing;
+
+import com.hyuns.cafit.application.caffeine.CaffeineCheckService;
+import com.hyuns.cafit.context.IntegrationTest;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.domain.user.repository.UserRepository;
+import com.hyuns.cafit.global.datasource.TracingDataSource;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@IntegrationTest
+@AutoConfigureObservability(metrics = false)
+@TestPropertySource(properties = {
+        "cafit.tracing.enabled=true",
+        "management.tracing.sampling.probability=1.0",
+        "cafit.tracing.file=build/test-traces/spans.jsonl"
+})
+@Import(TracingTest.InMemoryExporterConfig.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TracingTest {
+
+    @Autowired
+    private CaffeineCheckService caffeineCheckService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Test
+    @Sql("/sql/statistics/insert_statistics_data.sql")
+    void 서비스_저장소_JDBC_스팬이_부모_자식으로_이어지고_파일로도_남는다() throws Exception {
+        // given
+        User user = userRepository.findById(1L).orElseThrow();
+        flush();
+        spanExporter.reset();
+
+        // when
+        caffeineCheckService.getCurrentStatus(user);
+        flush();
+
+        // then
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        SpanData service = spanNamed(spans, "CaffeineCheckService.getCurrentStatus");
+        SpanData repository = spans.stream()
+                .filter(span -> "repository".equals(span.getAttributes().get(TracingInterceptor.LAYER)))
+                .filter(span -> span.getParentSpanId().equals(service.getSpanId()))
+                .findFirst()
+                .orElseThrow();
+        SpanData query = spans.stream()
+                .filter(span -> span.getKind() == SpanKind.CLIENT)
+                .filter(span -> span.getParentSpanId().equals(repository.getSpanId()))
+                .findFirst()
+                .orElseThrow();
+        assertAll(
+                () -> assertThat(service.getAttributes().get(TracingInterceptor.USER_ID)).isEqualTo(1L),
+                () -> assertThat(service.getAttributes().get(TracingInterceptor.INTAKE_COUNT)).isNotNull(),
+                () -> assertThat(repository.getAttributes().get(TracingInterceptor.ROWS)).isNotNull(),
+                () -> assertThat(query.getName()).isEqualTo("SELECT"),
+                () -> assertThat(query.getAttributes().get(TracingDataSource.RETURNED_ROWS))
+                        .isEqualTo(repository.getAttributes().get(TracingInterceptor.ROWS)),
+                () -> assertThat(Files.readString(Path.of("build/test-traces/spans.jsonl")))
+                        .contains("\"resourceSpans\"", service.getSpanId())
+        );
+    }
+
+    private void flush() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+    }
+
+    private SpanData spanNamed(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.hyuns.cafit.infrastructure.intake.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.hyuns.cafit.application.intake.dto.IntakeDailyTotal;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.domain.beverage.BeverageCategory;
+import com.hyuns.cafit.domain.beverage.BeverageType;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class IntakeArchiveStorageTest {
+
+    private static final Long USER_ID = 1L;
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+
+    @TempDir
+    private Path directory;
+
+    private IntakeArchiveStorage archiveStorage;
+
+    @BeforeEach
+    void setUp() {
+        archiveStorage = new IntakeArchiveStorage(directory.toString());
+    }
+
+    @Test
+    void 보관한_기록을_그대로_다시_읽는다() {
+        // given
+        List<IntakeHistoryRow> rows = List.of(
+                americano(10L, LocalDateTime.of(2025, 1, 3, 9, 0, 15, 120_000_000)),
+                customDrink(7L, LocalDateTime.of(2025, 1, 3, 14, 30)),
+                americano(11L, LocalDateTime.of(2025, 1, 20, 8, 0))
+        );
+
+        // when
+        archiveStorage.archive(USER_ID, JANUARY, rows);
+
+        // then
+        List<IntakeHistoryRow> archived = new ArrayList<>();
+        archiveStorage.forEach(USER_ID, archived::add);
+        assertThat(archived).containsExactlyElementsOf(rows);
+    }
+
+    @Test
+    void 같은_달을_다시_보관하면_id_기준으로_합친다() {
+        // given
+        IntakeHistoryRow first = americano(1L, LocalDateTime.of(2025, 1, 5, 9, 0));
+        IntakeHistoryRow second = americano(2L, LocalDateTime.of(2025, 1, 2, 9, 0));
+        archiveStorage.archive(USER_ID, JANUARY, List.of(first));
+
+        // when
+        archiveStorage.archive(USER_ID, JANUARY, List.of(first, second));
+
+        // then
+        List<IntakeHistoryRow> archived = new ArrayList<>();
+        archiveStorage.forEach(USER_ID, archived::add);
+        assertThat(archived).containsExactly(second, first);
+    }
+
+    @Test
+    void 기간_안의_기록으로_일별_합계를_만든다() {
+        // given
+        archiveStorage.archive(USER_ID, JANUARY, List.of(
+                americano(1L, LocalDateTime.of(2025, 1, 30, 9, 0)),
+                customDrink(2L, LocalDateTime.of(2025, 1, 31, 9, 0)),
+                americano(3L, LocalDateTime.of(2025, 1, 31, 15, 0))
+        ));
+        archiveStorage.archive(USER_ID, YearMonth.of(2025, 2), List.of(
+                americano(4L, LocalDateTime.of(2025, 2, 1, 9, 0))
+        ));
+
+        // when
+        Map<LocalDate, IntakeDailyTotal> totals = archiveStorage.dailyTotals(
+                USER_ID, LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 1));
+
+        // then
+        assertAll(
+                () -> assertThat(totals).containsOnlyKeys(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 1)),
+                () -> assertThat(totals.get(LocalDate.of(2025, 1, 31)).totalCaffeineMg()).isEqualTo(250.0),
+                () -> assertThat(totals.get(LocalDate.of(2025, 1, 31)).count()).isEqualTo(2),
+                () -> assertThat(totals.get(LocalDate.of(2025, 2, 1)).count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 보관된_기록이_없으면_비어있다() {
+        // when
+        Map<LocalDate, IntakeDailyTotal> totals = archiveStorage.dailyTotals(
+                USER_ID, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        // then
+        assertThat(totals).isEmpty();
+    }
+
+    private IntakeHistoryRow americano(Long id, LocalDateTime consumedAt) {
+        return new IntakeHistoryRow(id, "아메리카노", "스타벅스", BeverageCategory.AMERICANO, 355, 150.0,
+                consumedAt, BeverageType.PRESET, 1L);
+    }
+
+    private IntakeHistoryRow customDrink(Long id, LocalDateTime consumedAt) {
+        return new IntakeHistoryRow(id, "나만의 라떼", null, BeverageCategory.LATTE, 473, 100.0,
+                consumedAt, BeverageType.CUSTOM, 3L);
+    }
+}
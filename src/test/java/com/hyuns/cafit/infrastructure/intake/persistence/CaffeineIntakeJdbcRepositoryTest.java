@@ -0,0 +1,42 @@
+package com.hyuns.cafit.infrastructure.intake.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.hyuns.cafit.context.IntegrationTest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class CaffeineIntakeJdbcRepositoryTest {
+
+    @Autowired
+    private CaffeineIntakeJdbcRepository caffeineIntakeJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql("/sql/intake/insert_caffeine_intakes.sql")
+    void 아카이브한_id_만_지우고_사이에_커밋된_기록은_남긴다() {
+        // given: id 1 만 아카이브됐고, id 2 는 아카이브 도중 커밋된 기록
+        List<Long> archivedIds = List.of(1L);
+
+        // when
+        int deleted = caffeineIntakeJdbcRepository.deleteByIds(1L, archivedIds);
+
+        // then
+        assertAll(
+                () -> assertThat(deleted).isEqualTo(1),
+                () -> assertThat(jdbcTemplate.queryForList("SELECT id FROM caffeine_intakes", Long.class))
+                        .containsExactly(2L)
+        );
+    }
+}
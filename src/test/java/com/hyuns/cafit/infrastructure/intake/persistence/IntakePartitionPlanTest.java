@@ -0,0 +1,123 @@
+package com.hyuns.cafit.infrastructure.intake.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class IntakePartitionPlanTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 10);
+
+    @Test
+    void 파티션_이름과_정의는_다음_달_1일을_상한으로_한다() {
+        // when
+        String name = IntakePartitionPlan.nameOf(YearMonth.of(2026, 12));
+        String definition = IntakePartitionPlan.definitionOf(YearMonth.of(2026, 12));
+
+        // then
+        assertAll(
+                () -> assertThat(name).isEqualTo("p202612"),
+                () -> assertThat(definition).isEqualTo("PARTITION p202612 VALUES LESS THAN ('2027-01-01 00:00:00')"),
+                () -> assertThat(IntakePartitionPlan.monthOf("p202612")).contains(YearMonth.of(2026, 12)),
+                () -> assertThat(IntakePartitionPlan.monthOf(IntakePartitionPlan.MAX_PARTITION)).isEmpty()
+        );
+    }
+
+    @Test
+    void 처음_파티셔닝할_때는_가장_오래된_기록의_달부터_미래_달까지_만든다() {
+        // when
+        List<YearMonth> months = IntakePartitionPlan.initialMonths(YearMonth.of(2026, 8), CURRENT, 2);
+
+        // then
+        assertThat(months).containsExactly(
+                YearMonth.of(2026, 8), YearMonth.of(2026, 9), YearMonth.of(2026, 10),
+                YearMonth.of(2026, 11), YearMonth.of(2026, 12)
+        );
+    }
+
+    @Test
+    void 마이그레이션_직후의_p_max_만_있으면_월_파티션이_없다() {
+        // then
+        assertAll(
+                () -> assertThat(IntakePartitionPlan.hasMonthlyPartitions(List.of(IntakePartitionPlan.MAX_PARTITION)))
+                        .isFalse(),
+                () -> assertThat(IntakePartitionPlan.hasMonthlyPartitions(
+                        List.of("p202610", IntakePartitionPlan.MAX_PARTITION))).isTrue()
+        );
+    }
+
+    @Test
+    void 가장_늦은_파티션_이후의_미래_달만_추가한다() {
+        // given
+        List<String> existing = List.of("p202609", "p202610", "p202611", IntakePartitionPlan.MAX_PARTITION);
+
+        // when
+        List<YearMonth> missing = IntakePartitionPlan.missingFutureMonths(existing, CURRENT, 3);
+
+        // then
+        assertThat(missing).containsExactly(YearMonth.of(2026, 12), YearMonth.of(2027, 1));
+    }
+
+    @Test
+    void 미래_파티션이_충분하면_추가하지_않는다() {
+        // given
+        List<String> existing = List.of("p202610", "p202611", "p202612", "p202701", IntakePartitionPlan.MAX_PARTITION);
+
+        // when
+        List<YearMonth> missing = IntakePartitionPlan.missingFutureMonths(existing, CURRENT, 3);
+
+        // then
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void 보관_기간이_지난_파티션만_삭제_대상이다() {
+        // given
+        List<String> existing = List.of("p202606", "p202607", "p202608", "p202609", "p202610",
+                IntakePartitionPlan.MAX_PARTITION);
+
+        // when
+        List<String> expired = IntakePartitionPlan.expiredPartitions(existing, CURRENT, 2);
+
+        // then
+        assertThat(expired).containsExactly("p202606", "p202607");
+    }
+
+    @Test
+    void 보관_기간이_0이면_삭제하지_않는다() {
+        // given
+        List<String> existing = List.of("p201001", "p202610", IntakePartitionPlan.MAX_PARTITION);
+
+        // when
+        List<String> expired = IntakePartitionPlan.expiredPartitions(existing, CURRENT, 0);
+
+        // then
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    void 조회_구간이_걸친_월_파티션만_읽어야_프루닝된_것으로_본다() {
+        // given
+        LocalDate start = LocalDate.of(2026, 1, 31);
+        LocalDate end = LocalDate.of(2026, 3, 1);
+
+        // then
+        assertAll(
+                () -> assertThat(IntakePartitionPlan.isPruned(List.of("p202603"), end, end)).isTrue(),
+                () -> assertThat(IntakePartitionPlan.isPruned(List.of("p202601", "p202602", "p202603"), start, end))
+                        .isTrue(),
+                () -> assertThat(IntakePartitionPlan.isPruned(List.of("p202602", "p202603"), end, end)).isFalse(),
+                () -> assertThat(IntakePartitionPlan.isPruned(List.of("p202603", IntakePartitionPlan.MAX_PARTITION),
+                        end, end)).isFalse(),
+                () -> assertThat(IntakePartitionPlan.isPruned(List.of(), end, end)).isFalse()
+        );
+    }
+}
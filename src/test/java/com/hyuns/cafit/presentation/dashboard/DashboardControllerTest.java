@@ -0,0 +1,63 @@
+package com.hyuns.cafit.presentation.dashboard;
+
+import com.hyuns.cafit.application.caffeine.dto.CaffeineStatus;
+import com.hyuns.cafit.application.caffeine.dto.CurrentCaffeineResponse;
+import com.hyuns.cafit.application.caffeine.dto.DrinkRecommendation;
+import com.hyuns.cafit.application.caffeine.dto.UserCaffeineSettings;
+import com.hyuns.cafit.application.dashboard.DashboardFacade;
+import com.hyuns.cafit.application.dashboard.dto.DashboardResponse;
+import com.hyuns.cafit.application.statistics.dto.CaffeineTimelineResponse;
+import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.presentation.CommonControllerSliceTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = DashboardController.class)
+class DashboardControllerTest extends CommonControllerSliceTestSupport {
+
+    @MockBean
+    private DashboardFacade dashboardFacade;
+
+    @Test
+    void 대시보드를_조회한다() throws Exception {
+        // given
+        CurrentCaffeineResponse status = new CurrentCaffeineResponse(
+            new CaffeineStatus(100.0, 30.0, 200.0, 8.0),
+            new UserCaffeineSettings(400.0, 50.0, 5.0, LocalTime.of(23, 0)),
+            DrinkRecommendation.SAFE
+        );
+        LocalDateTime now = LocalDateTime.of(2026, 3, 31, 15, 0);
+        CaffeineTimelineResponse timeline = new CaffeineTimelineResponse(List.of(), now, now.plusHours(8), 50.0);
+        DashboardResponse response = new DashboardResponse(
+            status, timeline, List.of(), List.of(), List.of(), List.of()
+        );
+        given(dashboardFacade.getDashboard(any(User.class), eq(12))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/dashboard")
+                .session(loginSession()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status.recommendation").value("SAFE"))
+            .andExpect(jsonPath("$.timeline.targetSleepCaffeine").value(50.0))
+            .andExpect(jsonPath("$.favorites").isArray());
+    }
+
+    @Test
+    void 세션이_없으면_401을_반환한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/dashboard"))
+            .andExpect(status().isUnauthorized());
+    }
+}
@@ -1,9 +1,17 @@
 package com.hyuns.cafit.presentation.favorite;
 
+import com.hyuns.cafit.application.caffeine.dto.CaffeineStatus;
+import com.hyuns.cafit.application.caffeine.dto.CurrentCaffeineResponse;
+import com.hyuns.cafit.application.caffeine.dto.DrinkRecommendation;
+import com.hyuns.cafit.application.caffeine.dto.DrinkSafety;
+import com.hyuns.cafit.application.caffeine.dto.UserCaffeineSettings;
 import com.hyuns.cafit.application.favorite.FavoriteBeverageFacade;
 import com.hyuns.cafit.application.favorite.dto.FavoriteBeverageResponse;
 import com.hyuns.cafit.application.favorite.dto.FavoriteCreateRequest;
+import com.hyuns.cafit.application.favorite.dto.FavoriteIntakeResponse;
 import com.hyuns.cafit.application.favorite.dto.FavoriteOrderUpdateRequest;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
+import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
 import com.hyuns.cafit.domain.beverage.BeverageType;
 import com.hyuns.cafit.domain.user.User;
 import com.hyuns.cafit.presentation.CommonControllerSliceTestSupport;
@@ -12,9 +20,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -31,7 +42,7 @@ class FavoriteBeverageControllerTest extends CommonControllerSliceTestSupport {
         // given
         FavoriteCreateRequest request = new FavoriteCreateRequest(BeverageType.PRESET, 1L);
         FavoriteBeverageResponse response = new FavoriteBeverageResponse(
-            1L, BeverageType.PRESET, 1L, "아메리카노", "스타벅스", "아메리카노", 355, 150.0, 1
+            1L, BeverageType.PRESET, 1L, "아메리카노", "스타벅스", "아메리카노", 355, 150.0, 1, null
         );
         given(favoriteBeverageFacade.addFavorite(any(User.class), any(FavoriteCreateRequest.class)))
             .willReturn(response);
@@ -77,7 +88,7 @@ class FavoriteBeverageControllerTest extends CommonControllerSliceTestSupport {
     void 즐겨찾기_목록을_조회한다() throws Exception {
         // given
         FavoriteBeverageResponse response = new FavoriteBeverageResponse(
-            1L, BeverageType.PRESET, 1L, "아메리카노", "스타벅스", "아메리카노", 355, 150.0, 1
+            1L, BeverageType.PRESET, 1L, "아메리카노", "스타벅스", "아메리카노", 355, 150.0, 1, null
         );
         given(favoriteBeverageFacade.getFavorites(any(User.class))).willReturn(List.of(response));
 
@@ -89,6 +100,65 @@ class FavoriteBeverageControllerTest extends CommonControllerSliceTestSupport {
             .andExpect(jsonPath("$[0].name").value("아메리카노"));
     }
 
+    @Test
+    void 즐겨찾기_목록을_안전도와_함께_조회한다() throws Exception {
+        // given
+        DrinkSafety safety = new DrinkSafety(62.5, DrinkRecommendation.WARNING);
+        FavoriteBeverageResponse response = new FavoriteBeverageResponse(
+            1L, BeverageType.PRESET, 1L, "아메리카노", "스타벅스", "아메리카노", 355, 150.0, 1, safety
+        );
+        given(favoriteBeverageFacade.getFavoritesWithSafety(any(User.class))).willReturn(List.of(response));
+
+        // when & then
+        mockMvc.perform(get("/api/favorites")
+                .param("includeSafety", "true")
+                .session(loginSession()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].safety.predictedAtBedtimeMg").value(62.5))
+            .andExpect(jsonPath("$[0].safety.recommendation").value("WARNING"));
+    }
+
+    @Test
+    void 즐겨찾기_음료_섭취_기록시_기록과_갱신된_상태를_반환한다() throws Exception {
+        // given
+        LocalDateTime consumedAt = LocalDateTime.of(2026, 3, 31, 9, 0);
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(consumedAt);
+        CaffeineIntakeResponse intake = new CaffeineIntakeResponse(
+            10L, "아메리카노", "스타벅스", "아메리카노", 355, 150.0,
+            consumedAt, "스타벅스 아메리카노", BeverageType.PRESET, 1L
+        );
+        CurrentCaffeineResponse status = new CurrentCaffeineResponse(
+            new CaffeineStatus(150.0, 40.0, 150.0, 14.0),
+            new UserCaffeineSettings(400.0, 50.0, 5.0, LocalTime.of(23, 0)),
+            DrinkRecommendation.SAFE
+        );
+        given(favoriteBeverageFacade.recordFavoriteIntake(eq(1L), any(User.class), any(CaffeineIntakeCreateRequest.class)))
+            .willReturn(new FavoriteIntakeResponse(intake, status));
+
+        // when & then
+        mockMvc.perform(post("/api/favorites/1/intake")
+                .session(loginSession())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.intake.id").value(10L))
+            .andExpect(jsonPath("$.status.status.todayTotalMg").value(150.0))
+            .andExpect(jsonPath("$.status.recommendation").value("SAFE"));
+    }
+
+    @Test
+    void 즐겨찾기_음료_섭취_기록시_섭취시간이_없으면_400을_반환한다() throws Exception {
+        // given
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(null);
+
+        // when & then
+        mockMvc.perform(post("/api/favorites/1/intake")
+                .session(loginSession())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void 즐겨찾기_삭제_성공시_204를_반환한다() throws Exception {
         // when & then
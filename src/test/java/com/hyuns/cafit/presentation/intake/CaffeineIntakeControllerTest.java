@@ -1,16 +1,28 @@
 package com.hyuns.cafit.presentation.intake;
 
+import com.hyuns.cafit.application.intake.CaffeineIntakeExportService;
+import com.hyuns.cafit.application.intake.CaffeineIntakeImportService;
 import com.hyuns.cafit.application.intake.CaffeineIntakeService;
+import com.hyuns.cafit.application.intake.IdempotentIntakeFacade;
+import com.hyuns.cafit.application.intake.IntakeFileFormat;
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeCreateRequest;
 import com.hyuns.cafit.application.intake.dto.CaffeineIntakeResponse;
+import com.hyuns.cafit.application.intake.dto.IntakeImportError;
+import com.hyuns.cafit.application.intake.dto.IntakeImportResponse;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryRow;
+import com.hyuns.cafit.application.intake.dto.IntakeHistoryResponse;
+import com.hyuns.cafit.domain.beverage.BeverageCategory;
 import com.hyuns.cafit.domain.beverage.BeverageType;
 import com.hyuns.cafit.domain.user.User;
+import com.hyuns.cafit.global.exception.InvalidIntakeCursorException;
 import com.hyuns.cafit.presentation.CommonControllerSliceTestSupport;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.BufferedReader;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,7 +30,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = CaffeineIntakeController.class)
@@ -27,6 +41,15 @@ class CaffeineIntakeControllerTest extends CommonControllerSliceTestSupport {
     @MockBean
     private CaffeineIntakeService caffeineIntakeService;
 
+    @MockBean
+    private CaffeineIntakeImportService caffeineIntakeImportService;
+
+    @MockBean
+    private CaffeineIntakeExportService caffeineIntakeExportService;
+
+    @MockBean
+    private IdempotentIntakeFacade idempotentIntakeFacade;
+
     @Test
     void 프리셋_음료_섭취_기록_성공시_200을_반환한다() throws Exception {
         // given
@@ -72,6 +95,29 @@ class CaffeineIntakeControllerTest extends CommonControllerSliceTestSupport {
             .andExpect(jsonPath("$.sourceType").value("CUSTOM"));
     }
 
+    @Test
+    void Idempotency_Key가_있으면_멱등_기록으로_처리한다() throws Exception {
+        // given
+        LocalDateTime consumedAt = LocalDateTime.of(2026, 3, 31, 9, 0);
+        CaffeineIntakeCreateRequest request = new CaffeineIntakeCreateRequest(consumedAt);
+        CaffeineIntakeResponse response = new CaffeineIntakeResponse(
+            1L, "아메리카노", "스타벅스", "아메리카노", 355, 150.0,
+            consumedAt, "스타벅스 아메리카노", BeverageType.PRESET, 1L
+        );
+        given(idempotentIntakeFacade.recordPresetIntake(
+            any(User.class), eq(1L), any(CaffeineIntakeCreateRequest.class), eq("retry-key")
+        )).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/intakes/preset/1")
+                .session(loginSession())
+                .header("Idempotency-Key", "retry-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1L));
+    }
+
     @Test
     void 섭취_기록시_섭취시간이_없으면_400을_반환한다() throws Exception {
         // given
@@ -103,6 +149,96 @@ class CaffeineIntakeControllerTest extends CommonControllerSliceTestSupport {
             .andExpect(jsonPath("$[0].beverageName").value("아메리카노"));
     }
 
+    @Test
+    void 섭취_기록을_커서로_페이지_조회한다() throws Exception {
+        // given
+        IntakeHistoryRow row = new IntakeHistoryRow(
+            3L, "아메리카노", "스타벅스", BeverageCategory.AMERICANO, 355, 150.0,
+            LocalDateTime.of(2026, 3, 10, 9, 0), BeverageType.PRESET, 1L
+        );
+        IntakeHistoryResponse response = new IntakeHistoryResponse(List.of(row), "2026-03-10T09:00,3", true);
+        given(caffeineIntakeService.getIntakeHistory(any(User.class), eq("2026-03-11T09:00,5"), eq(1)))
+            .willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/intakes")
+                .param("before", "2026-03-11T09:00,5")
+                .param("limit", "1")
+                .session(loginSession()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.intakes[0].id").value(3L))
+            .andExpect(jsonPath("$.nextCursor").value("2026-03-10T09:00,3"))
+            .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void 잘못된_커서로_조회하면_400을_반환한다() throws Exception {
+        // given
+        given(caffeineIntakeService.getIntakeHistory(any(User.class), eq("invalid"), eq(20)))
+            .willThrow(new InvalidIntakeCursorException());
+
+        // when & then
+        mockMvc.perform(get("/api/intakes")
+                .param("before", "invalid")
+                .session(loginSession()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("I02"));
+    }
+
+    @Test
+    void CSV_섭취_기록을_가져온다() throws Exception {
+        // given
+        String csv = """
+            consumedAt,sourceType,beverageId
+            2025-01-10T09:00:00,PRESET,1
+            2025-01-10T14:00:00,PRESET,999
+            """;
+        IntakeImportResponse response = new IntakeImportResponse(
+            1, 1, 150.0,
+            LocalDateTime.of(2025, 1, 10, 9, 0), LocalDateTime.of(2025, 1, 10, 9, 0),
+            List.of(new IntakeImportError(3, "음료를 찾을 수 없습니다"))
+        );
+        given(caffeineIntakeImportService.importIntakes(
+            any(User.class), any(BufferedReader.class), eq(IntakeFileFormat.CSV)
+        )).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/intakes/import")
+                .session(loginSession())
+                .contentType("text/csv")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.importedRows").value(1))
+            .andExpect(jsonPath("$.failedRows").value(1))
+            .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    @Test
+    void 섭취_기록을_NDJSON_파일로_내보낸다() throws Exception {
+        // given
+        MvcResult result = mockMvc.perform(get("/api/intakes/export")
+                .param("format", "ndjson")
+                .session(loginSession()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // when & then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"intakes.ndjson\""));
+    }
+
+    @Test
+    void 지원하지_않는_형식으로_내보내면_400을_반환한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/intakes/export")
+                .param("format", "xml")
+                .session(loginSession()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("I03"));
+    }
+
     @Test
     void 섭취_기록_삭제_성공시_204를_반환한다() throws Exception {
         // when & then
@@ -1,6 +1,7 @@
 -- 테스트 데이터 정리 (매 테스트 전 실행)
 SET REFERENTIAL_INTEGRITY FALSE;
 
+TRUNCATE TABLE outbox;
 TRUNCATE TABLE favorite_beverages;
 TRUNCATE TABLE caffeine_intakes;
 TRUNCATE TABLE custom_beverages;
@@ -0,0 +1,21 @@
+-- 섭취 기록 페이지 조회 테스트 데이터 (id 3, 4 는 같은 시각)
+INSERT INTO users (id, email, password, name, daily_caffeine_limit, caffeine_half_life, bed_time, target_sleep_caffeine, created_at, updated_at)
+VALUES (1, 'test@example.com', '$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy', '테스트유저', 400, 5.0, '23:00:00', 50.0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO users (id, email, password, name, daily_caffeine_limit, caffeine_half_life, bed_time, target_sleep_caffeine, created_at, updated_at)
+VALUES (2, 'other@example.com', '$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy', '다른유저', 400, 5.0, '23:00:00', 50.0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO caffeine_intakes (id, user_id, beverage_name, brand_name, category, volume_ml, caffeine_mg, consumed_at, source_type, source_beverage_id)
+VALUES (1, 1, '아메리카노', '스타벅스', 'AMERICANO', 355, 150.0, '2026-01-10 09:00:00', 'PRESET', 1);
+
+INSERT INTO caffeine_intakes (id, user_id, beverage_name, brand_name, category, volume_ml, caffeine_mg, consumed_at, source_type, source_beverage_id)
+VALUES (2, 1, '카페라떼', '스타벅스', 'LATTE', 355, 75.0, '2026-02-10 09:00:00', 'PRESET', 2);
+
+INSERT INTO caffeine_intakes (id, user_id, beverage_name, brand_name, category, volume_ml, caffeine_mg, consumed_at, source_type, source_beverage_id)
+VALUES (3, 1, '아메리카노', '스타벅스', 'AMERICANO', 355, 150.0, '2026-03-10 09:00:00', 'PRESET', 1);
+
+INSERT INTO caffeine_intakes (id, user_id, beverage_name, brand_name, category, volume_ml, caffeine_mg, consumed_at, source_type, source_beverage_id)
+VALUES (4, 1, '카페라떼', '스타벅스', 'LATTE', 355, 75.0, '2026-03-10 09:00:00', 'PRESET', 2);
+
+INSERT INTO caffeine_intakes (id, user_id, beverage_name, brand_name, category, volume_ml, caffeine_mg, consumed_at, source_type, source_beverage_id)
+VALUES (5, 2, '아메리카노', '스타벅스', 'AMERICANO', 355, 150.0, '2026-03-11 09:00:00', 'PRESET', 1);
@@ -45,9 +45,13 @@ CREATE TABLE IF NOT EXISTS caffeine_intakes (
     consumed_at        TIMESTAMP    NOT NULL,
     source_type        VARCHAR(10),
     source_beverage_id BIGINT,
-    CONSTRAINT fk_caffeine_intake_user FOREIGN KEY (user_id) REFERENCES users (id)
+    idempotency_key    VARCHAR(64),
+    CONSTRAINT fk_caffeine_intake_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT uk_intake_user_idempotency_key UNIQUE (user_id, idempotency_key, consumed_at)
 );
 
+CREATE INDEX IF NOT EXISTS idx_intake_user_consumed_at_id ON caffeine_intakes (user_id, consumed_at, id);
+
 CREATE TABLE IF NOT EXISTS favorite_beverages (
     id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     user_id            BIGINT,
@@ -61,3 +65,16 @@ CREATE TABLE IF NOT EXISTS favorite_beverages (
     CONSTRAINT uk_favorite_preset UNIQUE (user_id, preset_beverage_id),
     CONSTRAINT uk_favorite_custom UNIQUE (user_id, custom_beverage_id)
 );
+
+CREATE TABLE IF NOT EXISTS outbox (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id    VARCHAR(36)  NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    event_type VARCHAR(40)  NOT NULL,
+    created_at TIMESTAMP(3) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id      INT          PRIMARY KEY,
+    beat_at TIMESTAMP(3) NOT NULL
+);